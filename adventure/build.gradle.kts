@@ -5,4 +5,6 @@ plugins {
 dependencies {
     api(libs.adventure.api)
     api(project(":orefield-text-api"))
+
+    testImplementation(testFixtures(project(":orefield-text-api")))
 }
@@ -31,20 +31,44 @@ import net.kyori.adventure.text.format.TextColor;
 import net.kyori.adventure.text.format.TextDecoration;
 import net.orefield.text.Category;
 import net.orefield.text.Property;
+import net.orefield.text.PropertyGroup;
 import net.orefield.text.Text;
+import net.orefield.text.async.AsyncText;
+import net.orefield.text.metrics.TextMetrics;
+import net.orefield.text.util.BoundedCache;
 import net.orefield.text.util.Preconditions;
 
+import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.Nls;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
 import org.jetbrains.annotations.VisibleForTesting;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ResourceBundle;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * An implementation of {@link Text} for {@link net.kyori.adventure.Adventure}.
+ * <p>
+ * Instances are immutable and thread-safe, so the shared {@link AdventureTexts#adventureText()}
+ * instance may be used from any amount of threads at once. Rendered titles and prefixes are held
+ * in lock-free {@link BoundedCache bounded caches}: cached components are read without locking,
+ * and every thread observes the same cached component for equal input. A cache miss renders on
+ * the calling thread; concurrent misses for the same input may render more than once, but only
+ * one result is cached. No method locks, although batch renders wait for their fork/join pool.
  *
  * @author Sparky983
  * @see AdventureTexts
@@ -105,62 +129,325 @@ public class AdventureText implements Text<Component> {
     public static final TextColor WARNING = TextColor.color(0xEBD94D);
 
     /**
-     * Cached component version of {@link #SEPARATOR}.
+     * Cached component version of {@link #INDENT}.
      *
-     * @see #SEPARATOR
+     * @see #INDENT
      */
     @VisibleForTesting
-    static final Component SEPARATOR_COMPONENT = Component.text(SEPARATOR + " ", DARK_GRAY);
+    static final Component INDENT_COMPONENT = Component.text(INDENT);
 
     /**
-     * Cached component version of {@link #INDENT}.
-     *
-     * @see #INDENT
+     * The maximum amount of components held by each component cache.
+     * <p>
+     * Components past this bound are still rendered, but are built on every call.
      */
     @VisibleForTesting
-    static final Component INDENT_COMPONENT = Component.text(INDENT);
+    static final int MAXIMUM_CACHE_SIZE = 256;
 
     /**
-     * Cached error component.
-     *
-     * @see #error(Component)
+     * The largest number whose value component is cached by the numeric
+     * {@link #property(String, long) property} methods. Numbers from {@code 0} to this are cached.
      */
     @VisibleForTesting
-    static final Component ERROR_COMPONENT = Component.text("Error: ", ERROR);
+    static final int MAXIMUM_CACHED_NUMBER = 1000;
+
+    /**
+     * Cached value components of the whole numbers from {@code 0} to
+     * {@link #MAXIMUM_CACHED_NUMBER}, filled as they are first used.
+     * <p>
+     * Components are immutable and only have final fields, so they may be published to other
+     * threads through a plain array write.
+     */
+    private static final Component[] LONG_VALUES = new Component[MAXIMUM_CACHED_NUMBER + 1];
+
+    /**
+     * Cached value components of the whole {@code double}s from {@code 0} to
+     * {@link #MAXIMUM_CACHED_NUMBER} (rendered as {@code "20.0"}), filled as they are first used.
+     */
+    private static final Component[] DOUBLE_VALUES = new Component[MAXIMUM_CACHED_NUMBER + 1];
 
     /**
-     * Cached warning component.
+     * The default minimum amount of renders before a batch is rendered in parallel.
      *
-     * @see #warning(Component)
+     * @see #AdventureText(ForkJoinPool, int)
+     * @since 1.0.3
      */
-    @VisibleForTesting
-    static final Component WARNING_COMPONENT = Component.text("Warning: ", WARNING);
+    public static final int DEFAULT_PARALLELISM_THRESHOLD = 512;
+
+    /**
+     * The amount of tasks a parallel batch is split into per thread of the pool.
+     * <p>
+     * Splitting into more tasks than threads allows work stealing to even out slow renders.
+     */
+    private static final int TASKS_PER_THREAD = 4;
 
     /**
-     * Cached call to action style.
+     * The name of the cache of {@link #title(String) titles}, as reported to
+     * {@link TextMetrics#recordCacheLookup(String, Category, boolean)}.
      *
-     * @see #callToAction(Component)
+     * @since 1.0.3
      */
-    @VisibleForTesting
-    static final Style CALL_TO_ACTION_STYLE = Style.style(
-            CALL_TO_ACTION,
-            TextDecoration.BOLD);
+    public static final String TITLE_CACHE = "title";
+
+    /**
+     * The name of the cache of {@link #title(Category) category titles}, as reported to
+     * {@link TextMetrics#recordCacheLookup(String, Category, boolean)}.
+     *
+     * @since 1.0.3
+     */
+    public static final String CATEGORY_TITLE_CACHE = "category-title";
+
+    /**
+     * The name of the cache of {@link #information(Category, Component) information} prefixes,
+     * as reported to {@link TextMetrics#recordCacheLookup(String, Category, boolean)}.
+     *
+     * @since 1.0.3
+     */
+    public static final String INFORMATION_PREFIX_CACHE = "information-prefix";
+
+    /**
+     * The name of the cache of {@link #property(Property) property} prefixes, as reported to
+     * {@link TextMetrics#recordCacheLookup(String, Category, boolean)}.
+     *
+     * @since 1.0.3
+     */
+    public static final String PROPERTY_PREFIX_CACHE = "property-prefix";
+
+    private final ForkJoinPool pool;
+    private final int parallelismThreshold;
+    private final TextMetrics metrics;
+    private final Translations translations;
+    private final Theme theme;
+
+    private final Component separatorComponent;
+    private final Component errorComponent;
+    private final Component warningComponent;
+    private final Style callToActionStyle;
+
+    private final BoundedCache<String, Component> titles;
+    private final BoundedCache<Category, Component> categoryTitles;
+    private final BoundedCache<Category, Component> informationPrefixes;
+    private final BoundedCache<String, Component> propertyPrefixes;
+
+    private final Component orefieldTitle;
+
+    /**
+     * Constructs a new {@code AdventureText} rendering large batches in the
+     * {@link ForkJoinPool#commonPool() common pool}.
+     *
+     * @author Sparky983
+     * @see AdventureTexts#adventureText()
+     * @since 1.0.0
+     */
+    public AdventureText() {
+        this(ForkJoinPool.commonPool(), DEFAULT_PARALLELISM_THRESHOLD);
+    }
+
+    /**
+     * Constructs a new {@code AdventureText} rendering batches of at least
+     * {@code parallelismThreshold} renders in parallel in the specified {@code pool}.
+     *
+     * @author Sparky983
+     * @param pool The pool batches are rendered in.
+     * @param parallelismThreshold The minimum amount of renders before a batch is rendered in
+     *                             parallel.
+     * @throws NullPointerException if {@code pool} is {@code null}.
+     * @throws IllegalArgumentException if {@code parallelismThreshold} isn't positive.
+     * @see #properties(Collection)
+     * @see #propertyGroups(Map)
+     * @since 1.0.3
+     */
+    public AdventureText(final @NotNull ForkJoinPool pool, final int parallelismThreshold) {
+        this(pool, parallelismThreshold, TextMetrics.noop());
+    }
+
+    /**
+     * Constructs a new {@code AdventureText} rendering batches of at least
+     * {@code parallelismThreshold} renders in parallel in the specified {@code pool}, and
+     * reporting every cache lookup to the specified {@code metrics}.
+     * <p>
+     * The caches are reported as {@link #TITLE_CACHE}, {@link #CATEGORY_TITLE_CACHE},
+     * {@link #INFORMATION_PREFIX_CACHE} and {@link #PROPERTY_PREFIX_CACHE}. To also record calls,
+     * wrap the text with {@link net.orefield.text.metrics.InstrumentedText}.
+     *
+     * @author Sparky983
+     * @param pool The pool batches are rendered in.
+     * @param parallelismThreshold The minimum amount of renders before a batch is rendered in
+     *                             parallel.
+     * @param metrics The metrics cache lookups are recorded to.
+     * @throws NullPointerException if {@code pool} or {@code metrics} are {@code null}.
+     * @throws IllegalArgumentException if {@code parallelismThreshold} isn't positive.
+     * @since 1.0.3
+     */
+    public AdventureText(final @NotNull ForkJoinPool pool,
+            final int parallelismThreshold,
+            final @NotNull TextMetrics metrics) {
+        this(pool, parallelismThreshold, metrics, Translations.DEFAULT, Theme.DEFAULT);
+    }
+
+    /**
+     * Constructs a new {@code AdventureText}.
+     *
+     * @author Sparky983
+     * @param pool The pool batches are rendered in.
+     * @param parallelismThreshold The minimum amount of renders before a batch is rendered in
+     *                             parallel.
+     * @param metrics The metrics cache lookups are recorded to.
+     * @param translations The translations of the labels.
+     * @param theme The colors of the messages.
+     * @throws NullPointerException if {@code pool}, {@code metrics}, {@code translations} or
+     *                              {@code theme} are {@code null}.
+     * @throws IllegalArgumentException if {@code parallelismThreshold} isn't positive.
+     */
+    private AdventureText(final @NotNull ForkJoinPool pool,
+            final int parallelismThreshold,
+            final @NotNull TextMetrics metrics,
+            final @NotNull Translations translations,
+            final @NotNull Theme theme) {
+        Preconditions.checkArgument(parallelismThreshold > 0,
+                "[parallelismThreshold] must be positive");
+
+        this.pool = Preconditions.checkNotNull(pool, "pool");
+        this.parallelismThreshold = parallelismThreshold;
+        this.metrics = Preconditions.checkNotNull(metrics, "metrics");
+        this.translations = Preconditions.checkNotNull(translations, "translations");
+        this.theme = Preconditions.checkNotNull(theme, "theme");
+
+        this.separatorComponent = Component.text(translations.separator(), theme.darkGray());
+        this.errorComponent = Component.text(translations.error(), theme.error());
+        this.warningComponent = Component.text(translations.warning(), theme.warning());
+        this.callToActionStyle = Style.style(theme.callToAction(), TextDecoration.BOLD);
+
+        this.titles = new BoundedCache<>(
+                MAXIMUM_CACHE_SIZE,
+                this::createTitle,
+                (title, hit) -> metrics.recordCacheLookup(TITLE_CACHE, null, hit));
+        this.categoryTitles = new BoundedCache<>(
+                MAXIMUM_CACHE_SIZE,
+                (category) -> createTitle(categoryTitle(category)),
+                (category, hit) -> metrics.recordCacheLookup(CATEGORY_TITLE_CACHE, category, hit));
+        this.informationPrefixes = new BoundedCache<>(
+                MAXIMUM_CACHE_SIZE,
+                this::createInformationPrefix,
+                (category, hit) ->
+                        metrics.recordCacheLookup(INFORMATION_PREFIX_CACHE, category, hit));
+        this.propertyPrefixes = new BoundedCache<>(
+                MAXIMUM_CACHE_SIZE,
+                this::createPropertyPrefix,
+                (propertyName, hit) ->
+                        metrics.recordCacheLookup(PROPERTY_PREFIX_CACHE, null, hit));
+
+        this.orefieldTitle = title("OREFIELD");
+    }
+
+    /**
+     * Returns a new {@code AdventureText} like this one, but with its labels translated to the
+     * specified {@code locale}.
+     * <p>
+     * The error and warning labels, the information separator and category titles are looked up
+     * in the bundled {@code net.orefield.text.adventure.messages} resource bundle once, and are
+     * prebuilt into components, so rendering is as cheap as with the default labels. Labels
+     * missing for the {@code locale} fall back to its parent locales, then to English.
+     * <p>
+     * Prefer {@link AdventureTexts#adventureText(Locale)}, which caches the text for each locale.
+     *
+     * @author Sparky983
+     * @param locale The locale.
+     * @return The translated text.
+     * @throws NullPointerException if {@code locale} is {@code null}.
+     * @see #withMessages(ResourceBundle)
+     * @since 1.0.3
+     */
+    @Contract(value = "_ -> new", pure = true)
+    public @NotNull AdventureText withLocale(final @NotNull Locale locale) {
+        return new AdventureText(pool, parallelismThreshold, metrics, Translations.of(locale),
+                theme);
+    }
+
+    /**
+     * Returns a new {@code AdventureText} like this one, but with its labels taken from the
+     * specified {@code bundle}.
+     * <p>
+     * The bundle may contain the keys {@code error}, {@code warning} and {@code separator} (each
+     * including any trailing space) and {@code category.<NAME>} for the title of each category.
+     * Missing keys fall back to the default English labels.
+     *
+     * @author Sparky983
+     * @param bundle The bundle.
+     * @return The translated text.
+     * @throws NullPointerException if {@code bundle} is {@code null}.
+     * @see #withLocale(Locale)
+     * @since 1.0.3
+     */
+    @Contract(value = "_ -> new", pure = true)
+    public @NotNull AdventureText withMessages(final @NotNull ResourceBundle bundle) {
+        return new AdventureText(pool, parallelismThreshold, metrics, Translations.of(bundle),
+                theme);
+    }
+
+    /**
+     * Returns a new {@code AdventureText} like this one, but rendering with the colors of the
+     * specified {@code theme}.
+     * <p>
+     * The labels, separator and call to action style are prebuilt with the theme's colors, and
+     * titles and prefixes are cached per text, so rendering is as cheap as with the default theme.
+     * Create themed texts once and reuse them.
+     *
+     * @author Sparky983
+     * @param theme The theme.
+     * @return The themed text.
+     * @throws NullPointerException if {@code theme} is {@code null}.
+     * @since 1.0.3
+     */
+    @Contract(value = "_ -> new", pure = true)
+    public @NotNull AdventureText withTheme(final @NotNull Theme theme) {
+        return new AdventureText(pool, parallelismThreshold, metrics, translations, theme);
+    }
+
+    /**
+     * Returns an {@link AsyncText} rendering with this text on the specified {@code executor}.
+     * <p>
+     * Use it to render large messages, such as property groups for GUIs, without blocking the
+     * calling thread. {@link AsyncText#defaultExecutor()} returns an executor using virtual threads
+     * where they are available.
+     *
+     * @author Sparky983
+     * @param executor The executor messages are rendered on.
+     * @return The asynchronous text.
+     * @throws NullPointerException if {@code executor} is {@code null}.
+     * @see AsyncText#wrap(Text, Executor)
+     * @since 1.0.3
+     */
+    @Contract(value = "_ -> new", pure = true)
+    public @NotNull AsyncText<Component> async(final @NotNull Executor executor) {
+        return AsyncText.wrap(this, executor);
+    }
 
-    private final Component orefieldTitle = title("OREFIELD");
+    /**
+     * Returns the theme of this text.
+     *
+     * @author Sparky983
+     * @return The theme.
+     * @see #withTheme(Theme)
+     * @since 1.0.3
+     */
+    @Contract(pure = true)
+    public @NotNull Theme getTheme() {
+        return theme;
+    }
 
     @Override
     public @NotNull Component title(final @Nls(capitalization = Title) @NotNull String title) {
         Preconditions.checkNotNull(title, "title");
 
-        return Component.empty()
-                .append(Component.text(title, ACCENT, TextDecoration.BOLD));
+        return titles.get(title);
     }
 
     @Override
     public @NotNull Component title(final @NotNull Category category) {
         Preconditions.checkNotNull(category, "category");
 
-        return title(category.toString());
+        return categoryTitles.get(category);
     }
 
     @Override
@@ -174,17 +461,7 @@ public class AdventureText implements Text<Component> {
         Preconditions.checkNotNull(category, "category");
         Preconditions.checkNotNull(message, "message");
 
-        return Component.text()
-                .append(
-                        Component.text(
-                                category.getName() + ' ',
-                                MAIN,
-                                TextDecoration.BOLD
-                        )
-                )
-                .append(SEPARATOR_COMPONENT)
-                .append(message)
-                .build();
+        return informationPrefixes.get(category).append(message);
     }
 
     @Override
@@ -192,7 +469,7 @@ public class AdventureText implements Text<Component> {
             final @NotNull Component message) {
         Preconditions.checkNotNull(message, "message");
 
-        return ERROR_COMPONENT.append(message);
+        return errorComponent.append(message);
     }
 
     @Override
@@ -200,30 +477,67 @@ public class AdventureText implements Text<Component> {
             final @NotNull Component message) {
         Preconditions.checkNotNull(message, "message");
 
-        return WARNING_COMPONENT.append(message);
+        return warningComponent.append(message);
     }
 
     @Override
     public @NotNull Component callToAction(final @NotNull Component message) {
         Preconditions.checkNotNull(message, "message");
-        return message.style(CALL_TO_ACTION_STYLE);
+        return message.style(callToActionStyle);
     }
 
     @Override
     public @NotNull Component property(final @NotNull Property<? extends Component> property) {
         Preconditions.checkNotNull(property, "property");
 
-        return Component.text()
-                .append(Component.text(property.getPropertyName() + ": ", GRAY))
-                .append(property.getValue())
-                .build();
+        return propertyPrefixes.get(property.getPropertyName()).append(property.getValue());
     }
 
     @Override
     public @NotNull Component property(
             final @Nls(capitalization = Title) @NotNull String propertyName,
             final @NotNull Component value) {
-        return property(Property.of(propertyName, value));
+        Preconditions.checkNotNull(propertyName, "propertyName");
+        Preconditions.checkNotNull(value, "value");
+
+        return propertyPrefixes.get(propertyName).append(value);
+    }
+
+    @Override
+    public @NotNull Component propertyValue(final @NotNull String value) {
+        Preconditions.checkNotNull(value, "value");
+
+        return Component.text(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The value components of the numbers from {@code 0} to {@code 1000} are cached, so
+     * rendering them doesn't format a string.
+     */
+    @Override
+    public @NotNull Component property(
+            final @Nls(capitalization = Title) @NotNull String propertyName,
+            final long value) {
+        Preconditions.checkNotNull(propertyName, "propertyName");
+
+        return propertyPrefixes.get(propertyName).append(valueComponent(value));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The value components of the whole numbers from {@code 0.0} to {@code 1000.0} are cached, so
+     * rendering them doesn't format a string.
+     */
+    @Override
+    public @NotNull Component property(
+            final @Nls(capitalization = Title) @NotNull String propertyName,
+            final double value) {
+        Preconditions.checkNotNull(propertyName, "propertyName");
+
+        return propertyPrefixes.get(propertyName).append(valueComponent(value));
     }
 
     @Override
@@ -235,19 +549,341 @@ public class AdventureText implements Text<Component> {
 
         Component[] components = new Component[properties.size() + 1];
 
-        components[0] = Component.text(
-                propertyGroupName,
-                ACCENT,
-                TextDecoration.BOLD
-        );
+        components[0] = createPropertyGroupHeader(propertyGroupName);
 
         int i = 1;
         for (final Property<? extends Component> property : properties) {
-            Preconditions.checkNotNull(property, "properties[" + i + "]");
-            components[i] = INDENT_COMPONENT.append(property(property));
+            Preconditions.checkElementNotNull(property, "properties", i - 1);
+            components[i] = createPropertyGroupLine(property);
             i++;
         }
 
         return Collections.unmodifiableList(Arrays.asList(components));
     }
+
+    @Override
+    public @NotNull @Unmodifiable List<@NotNull Component> propertyGroup(
+            final @NotNull PropertyGroup<? extends Component> propertyGroup) {
+        Preconditions.checkNotNull(propertyGroup, "propertyGroup");
+
+        final Component[] components = new Component[propertyGroup.size() + 1];
+
+        components[0] = createPropertyGroupHeader(propertyGroup.getName());
+
+        for (int i = 0; i < propertyGroup.size(); i++) {
+            components[i + 1] = INDENT_COMPONENT.append(
+                    property(propertyGroup.getPropertyName(i), propertyGroup.getValue(i)));
+        }
+
+        return Collections.unmodifiableList(Arrays.asList(components));
+    }
+
+    @Override
+    public @NotNull Stream<@NotNull Component> propertyGroupStream(
+            final @Nls(capitalization = Title) @NotNull String propertyGroupName,
+            final @NotNull Collection<@NotNull Property<? extends Component>> properties) {
+        Preconditions.checkNotNull(propertyGroupName, "propertyGroupName");
+        Preconditions.checkNotNull(properties, "properties");
+
+        final Iterator<Component> lines = new PropertyGroupIterator(propertyGroupName,
+                properties.iterator());
+
+        return StreamSupport.stream(
+                Spliterators.spliterator(
+                        lines,
+                        properties.size() + 1L,
+                        Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE
+                ),
+                false
+        );
+    }
+
+    /**
+     * Returns a new {@link LivePropertyGroup} with the specified {@code propertyGroupName},
+     * rendering only the lines that changed between updates.
+     *
+     * @author Sparky983
+     * @param propertyGroupName The group name.
+     * @return The live property group.
+     * @throws NullPointerException if {@code propertyGroupName} is {@code null}.
+     * @see #propertyGroup(String, Collection)
+     * @since 1.0.3
+     */
+    @Contract(value = "_ -> new", pure = true)
+    public @NotNull LivePropertyGroup livePropertyGroup(
+            final @Nls(capitalization = Title) @NotNull String propertyGroupName) {
+        Preconditions.checkNotNull(propertyGroupName, "propertyGroupName");
+
+        return new LivePropertyGroup(this, propertyGroupName);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Batches of at least the parallelism threshold are rendered in parallel.
+     *
+     * @see #AdventureText(ForkJoinPool, int)
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public @NotNull @Unmodifiable List<@NotNull Component> properties(
+            final @NotNull Collection<@NotNull Property<? extends Component>> properties) {
+        Preconditions.checkNotNull(properties, "properties");
+
+        final Property<? extends Component>[] inputs = properties.toArray(new Property[0]);
+        for (int i = 0; i < inputs.length; i++) {
+            Preconditions.checkElementNotNull(inputs[i], "properties", i);
+        }
+
+        final Component[] components = new Component[inputs.length];
+        render(inputs, components, this::property, inputs.length);
+        return Collections.unmodifiableList(Arrays.asList(components));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Batches with a total of at least the parallelism threshold properties are rendered in
+     * parallel, one task per property group.
+     *
+     * @see #AdventureText(ForkJoinPool, int)
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public @NotNull @Unmodifiable List<@NotNull List<@NotNull Component>> propertyGroups(
+            final @NotNull Map<@NotNull String,
+                    ? extends @NotNull Collection<@NotNull Property<? extends Component>>>
+                    propertyGroups) {
+        Preconditions.checkNotNull(propertyGroups, "propertyGroups");
+
+        final Map.Entry<String, ? extends Collection<Property<? extends Component>>>[] inputs =
+                propertyGroups.entrySet().toArray(new Map.Entry[0]);
+        int renders = 0;
+        for (int i = 0; i < inputs.length; i++) {
+            final Collection<Property<? extends Component>> properties = inputs[i].getValue();
+            Preconditions.checkElementNotNull(properties, "propertyGroups", i);
+            renders += properties.size() + 1;
+        }
+
+        final List<Component>[] groups = new List[inputs.length];
+        render(inputs, groups,
+                (group) -> propertyGroup(group.getKey(), group.getValue()),
+                renders);
+        return Collections.unmodifiableList(Arrays.asList(groups));
+    }
+
+    /**
+     * Renders each of the {@code inputs} into {@code outputs}, in parallel if there are at least
+     * {@link #parallelismThreshold} {@code renders}.
+     *
+     * @author Sparky983
+     * @param inputs The inputs.
+     * @param outputs The outputs.
+     * @param renderer The renderer.
+     * @param renders The total amount of renders the inputs require.
+     * @param <I> The input type.
+     * @param <O> The output type.
+     */
+    private <I, O> void render(final I @NotNull [] inputs,
+            final O @NotNull [] outputs,
+            final @NotNull Function<? super I, ? extends O> renderer,
+            final int renders) {
+        if (renders < parallelismThreshold || inputs.length < 2) {
+            for (int i = 0; i < inputs.length; i++) {
+                outputs[i] = renderer.apply(inputs[i]);
+            }
+            return;
+        }
+
+        final int leafSize = Math.max(1,
+                inputs.length / (pool.getParallelism() * TASKS_PER_THREAD));
+        pool.invoke(new RenderTask<>(inputs, outputs, renderer, leafSize, 0, inputs.length));
+    }
+
+    /**
+     * Returns the value component of the specified {@code value}, cached if it is small.
+     *
+     * @author Sparky983
+     * @param value The value.
+     * @return The value component.
+     * @see #property(String, long)
+     */
+    private static @NotNull Component valueComponent(final long value) {
+        if (value < 0 || value > MAXIMUM_CACHED_NUMBER) {
+            return Component.text(value);
+        }
+
+        final int index = (int) value;
+        Component component = LONG_VALUES[index];
+        if (component == null) {
+            component = Component.text(value);
+            LONG_VALUES[index] = component;
+        }
+        return component;
+    }
+
+    /**
+     * Returns the value component of the specified {@code value}, cached if it is a small whole
+     * number.
+     *
+     * @author Sparky983
+     * @param value The value.
+     * @return The value component.
+     * @see #property(String, double)
+     */
+    private static @NotNull Component valueComponent(final double value) {
+        final int index = (int) value;
+        // The sign bit check excludes -0.0, which renders as "-0.0"
+        if (index != value || index < 0 || index > MAXIMUM_CACHED_NUMBER
+                || Double.doubleToRawLongBits(value) < 0) {
+            return Component.text(value);
+        }
+
+        Component component = DOUBLE_VALUES[index];
+        if (component == null) {
+            component = Component.text(value);
+            DOUBLE_VALUES[index] = component;
+        }
+        return component;
+    }
+
+    /**
+     * Builds a new title component.
+     *
+     * @author Sparky983
+     * @param title The title.
+     * @return The title component.
+     */
+    private @NotNull Component createTitle(
+            final @Nls(capitalization = Title) @NotNull String title) {
+        return Component.empty()
+                .append(Component.text(title, theme.accent(), TextDecoration.BOLD));
+    }
+
+    /**
+     * Builds the prefix of a property message (the gray property name label).
+     *
+     * @author Sparky983
+     * @param propertyName The property name.
+     * @return The prefix component.
+     * @see #property(Property)
+     */
+    private @NotNull Component createPropertyPrefix(
+            final @Nls(capitalization = Title) @NotNull String propertyName) {
+        return Component.text()
+                .append(Component.text(propertyName + ": ", theme.gray()))
+                .build();
+    }
+
+    /**
+     * Builds the header line of a property group.
+     *
+     * @author Sparky983
+     * @param propertyGroupName The group name.
+     * @return The header component.
+     * @see #propertyGroup(String, Collection)
+     */
+    @NotNull Component createPropertyGroupHeader(
+            final @Nls(capitalization = Title) @NotNull String propertyGroupName) {
+        return Component.text(
+                propertyGroupName,
+                theme.accent(),
+                TextDecoration.BOLD
+        );
+    }
+
+    /**
+     * Builds an indented property line of a property group.
+     *
+     * @author Sparky983
+     * @param property The property.
+     * @return The line component.
+     * @see #propertyGroup(String, Collection)
+     */
+    @NotNull Component createPropertyGroupLine(
+            final @NotNull Property<? extends Component> property) {
+        return INDENT_COMPONENT.append(property(property));
+    }
+
+    /**
+     * Builds the prefix of an information message (the category name and the separator).
+     *
+     * @author Sparky983
+     * @param category The category.
+     * @return The prefix component.
+     * @see #information(Category, Component)
+     */
+    private @NotNull Component createInformationPrefix(final @NotNull Category category) {
+        final String translatedName = translations.category(category);
+        final String name = translatedName == null ? category.getName() : translatedName;
+
+        return Component.text()
+                .append(
+                        Component.text(
+                                name + ' ',
+                                theme.main(),
+                                TextDecoration.BOLD
+                        )
+                )
+                .append(separatorComponent)
+                .build();
+    }
+
+    /**
+     * Returns the title of the specified {@code category}, translated if there is a translation.
+     *
+     * @author Sparky983
+     * @param category The category.
+     * @return The title.
+     * @see #title(Category)
+     */
+    private @Nls(capitalization = Title) @NotNull String categoryTitle(
+            final @NotNull Category category) {
+        final String translatedTitle = translations.category(category);
+        return translatedTitle == null ? category.toString() : translatedTitle;
+    }
+
+    /**
+     * An iterator rendering the lines of a property group as they are consumed.
+     *
+     * @author Sparky983
+     * @see #propertyGroupStream(String, Collection)
+     */
+    private final class PropertyGroupIterator implements Iterator<Component> {
+
+        private final String propertyGroupName;
+        private final Iterator<? extends Property<? extends Component>> properties;
+        private int index = 0;
+
+        /**
+         * Constructs a new {@code PropertyGroupIterator}.
+         *
+         * @author Sparky983
+         * @param propertyGroupName The group name.
+         * @param properties The properties.
+         */
+        PropertyGroupIterator(final @NotNull String propertyGroupName,
+                final @NotNull Iterator<? extends Property<? extends Component>> properties) {
+            this.propertyGroupName = propertyGroupName;
+            this.properties = properties;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index == 0 || properties.hasNext();
+        }
+
+        @Override
+        public @NotNull Component next() {
+            if (index == 0) {
+                index++;
+                return createPropertyGroupHeader(propertyGroupName);
+            }
+
+            final Property<? extends Component> property = properties.next();
+            Preconditions.checkElementNotNull(property, "properties", index - 1);
+            index++;
+            return createPropertyGroupLine(property);
+        }
+    }
 }
@@ -27,6 +27,9 @@ import static org.jetbrains.annotations.Nls.Capitalization.Title;
 import net.kyori.adventure.text.Component;
 import net.orefield.text.Category;
 import net.orefield.text.Property;
+import net.orefield.text.PropertyGroup;
+import net.orefield.text.util.BoundedCache;
+import net.orefield.text.util.Preconditions;
 
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.Nls;
@@ -35,9 +38,18 @@ import org.jetbrains.annotations.Unmodifiable;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Stream;
 
 /**
  * A class for static access to {@link AdventureText}.
+ * <p>
+ * All methods are thread-safe; see {@link AdventureText} for the concurrency guarantees of the
+ * shared instance.
  *
  * @author Sparky983
  * @since 1.0.0
@@ -46,6 +58,22 @@ public final class AdventureTexts {
 
     private final static AdventureText INSTANCE = new AdventureText();
 
+    /**
+     * The maximum amount of locales whose {@link #adventureText(Locale) translated text} is
+     * cached.
+     */
+    private static final int MAXIMUM_CACHED_LOCALES = 64;
+
+    /**
+     * The translated texts by the locale of their bundled translations. There is one entry per
+     * bundled translations file at most, so this is bounded without evicting.
+     */
+    private static final ConcurrentMap<Locale, AdventureText> BUNDLED_INSTANCES =
+            new ConcurrentHashMap<>();
+
+    private static final BoundedCache<Locale, AdventureText> LOCALIZED_INSTANCES =
+            new BoundedCache<>(MAXIMUM_CACHED_LOCALES, AdventureTexts::bundledText);
+
     /**
      * Returns the singleton {@link AdventureText} instance.
      *
@@ -58,10 +86,47 @@ public final class AdventureTexts {
         return INSTANCE;
     }
 
+    /**
+     * Returns the shared {@link AdventureText} translated to the specified {@code locale}.
+     * <p>
+     * Locales resolving to the same bundled translations share a text, which is only created
+     * once. The text of each of the first locales looked up is cached, so lookups are
+     * lock-free; other locales only resolve their bundle before returning the shared text.
+     *
+     * @author Sparky983
+     * @param locale The locale.
+     * @return The translated instance.
+     * @throws NullPointerException if {@code locale} is {@code null}.
+     * @see AdventureText#withLocale(Locale)
+     * @since 1.0.3
+     */
+    @Contract(pure = true)
+    public static @NotNull AdventureText adventureText(final @NotNull Locale locale) {
+        Preconditions.checkNotNull(locale, "locale");
+
+        return LOCALIZED_INSTANCES.get(locale);
+    }
+
+    /**
+     * Returns the shared text of the bundled translations for the specified {@code locale}.
+     *
+     * @author Sparky983
+     * @param locale The locale.
+     * @return The translated instance.
+     */
+    private static @NotNull AdventureText bundledText(final @NotNull Locale locale) {
+        final ResourceBundle bundle = Translations.bundle(locale);
+
+        return BUNDLED_INSTANCES.computeIfAbsent(bundle.getLocale(),
+                (bundleLocale) -> INSTANCE.withMessages(bundle));
+    }
+
     // Documentation copied from net.orefield.text.Text
 
     /**
-     * Returns a new title.
+     * Returns a title.
+     * <p>
+     * Implementations may return a shared instance for equal titles.
      *
      * @author Sparky983
      * @param title The title.
@@ -69,7 +134,7 @@ public final class AdventureTexts {
      * @throws NullPointerException if {@code title} is {@code null}.
      * @since 1.0.0
      */
-    @Contract(value = "_ -> new", pure = true)
+    @Contract(pure = true)
     public static @NotNull Component title(
             final @Nls(capitalization = Title) @NotNull String title) {
         return adventureText().title(title);
@@ -78,7 +143,8 @@ public final class AdventureTexts {
     /**
      * Creates a title for the specified {@code category}.
      * <p>
-     * The same as calling {@code Text.title(category.toString())}.
+     * The same as calling {@code Text.title(category.toString())}. Implementations may return a
+     * shared instance for equal categories.
      *
      * @author Sparky983
      * @param category The category.
@@ -86,7 +152,7 @@ public final class AdventureTexts {
      * @throws NullPointerException if {@code category} is {@code null}.
      * @since 1.0.0
      */
-    @Contract(value = "_ -> new", pure = true)
+    @Contract(pure = true)
     public static @NotNull Component title(final @NotNull Category category) {
         return adventureText().title(category);
     }
@@ -197,6 +263,59 @@ public final class AdventureTexts {
         return adventureText().property(propertyName, value);
     }
 
+    /**
+     * Returns a new property message of a property with the specified {@code propertyName} and
+     * numeric {@code value}.
+     * <p>
+     * The same as calling {@code Text.property(propertyName, (long) value)}.
+     *
+     * @author Sparky983
+     * @param propertyName The property name.
+     * @param value The property value.
+     * @return The property message.
+     * @throws NullPointerException if {@code propertyName} is {@code null}.
+     * @since 1.0.3
+     */
+    @Contract(value = "_, _ -> new", pure = true)
+    public static @NotNull Component property(final @NotNull String propertyName,
+            final int value) {
+        return adventureText().property(propertyName, value);
+    }
+
+    /**
+     * Returns a new property message of a property with the specified {@code propertyName} and
+     * numeric {@code value}, formatted like {@link String#valueOf(long)}.
+     *
+     * @author Sparky983
+     * @param propertyName The property name.
+     * @param value The property value.
+     * @return The property message.
+     * @throws NullPointerException if {@code propertyName} is {@code null}.
+     * @since 1.0.3
+     */
+    @Contract(value = "_, _ -> new", pure = true)
+    public static @NotNull Component property(final @NotNull String propertyName,
+            final long value) {
+        return adventureText().property(propertyName, value);
+    }
+
+    /**
+     * Returns a new property message of a property with the specified {@code propertyName} and
+     * numeric {@code value}, formatted like {@link String#valueOf(double)}.
+     *
+     * @author Sparky983
+     * @param propertyName The property name.
+     * @param value The property value.
+     * @return The property message.
+     * @throws NullPointerException if {@code propertyName} is {@code null}.
+     * @since 1.0.3
+     */
+    @Contract(value = "_, _ -> new", pure = true)
+    public static @NotNull Component property(final @NotNull String propertyName,
+            final double value) {
+        return adventureText().property(propertyName, value);
+    }
+
     /**
      * Returns a new property group message with the specified {@code groupName} and
      * {@code properties}.
@@ -213,4 +332,115 @@ public final class AdventureTexts {
             final @NotNull Collection<@NotNull Property<? extends @NotNull Component>> properties) {
         return adventureText().propertyGroup(propertyGroupName, properties);
     }
+
+    /**
+     * Returns a new property group message of the specified {@code propertyGroup}.
+     *
+     * @author Sparky983
+     * @param propertyGroup The property group.
+     * @return The property group message.
+     * @throws NullPointerException if {@code propertyGroup} is {@code null}.
+     * @since 1.0.3
+     */
+    @Contract(value = "_ -> new", pure = true)
+    public static @Unmodifiable @NotNull List<@NotNull Component> propertyGroup(
+            final @NotNull PropertyGroup<? extends @NotNull Component> propertyGroup) {
+        return adventureText().propertyGroup(propertyGroup);
+    }
+
+    /**
+     * Returns a lazily rendered property group message with the specified {@code groupName} and
+     * {@code properties}.
+     * <p>
+     * The lines are the same as the lines of
+     * {@link #propertyGroup(String, Collection) propertyGroup}, but each line is only rendered
+     * when it is consumed. The {@code properties} must not be modified while the stream is being
+     * consumed.
+     *
+     * @author Sparky983
+     * @param propertyGroupName The group name.
+     * @param properties The properties.
+     * @return The lines of the property group.
+     * @throws NullPointerException if {@code propertyGroupName} or {@code properties} are
+     *                              {@code null}.
+     * @since 1.0.3
+     */
+    @Contract(value = "_, _ -> new", pure = true)
+    public static @NotNull Stream<@NotNull Component> propertyGroupStream(
+            final @Nls(capitalization = Title) @NotNull String propertyGroupName,
+            final @NotNull Collection<@NotNull Property<? extends @NotNull Component>> properties) {
+        return adventureText().propertyGroupStream(propertyGroupName, properties);
+    }
+
+    /**
+     * Returns a page of a property group message with the specified {@code groupName} and
+     * {@code properties}.
+     * <p>
+     * The page contains the group name followed by at most {@code pageSize} properties, starting
+     * at property {@code page * pageSize}. Only the properties on the page are rendered. Pages past
+     * the last property only contain the group name.
+     *
+     * @author Sparky983
+     * @param propertyGroupName The group name.
+     * @param properties The properties.
+     * @param page The index of the page, starting at {@code 0}.
+     * @param pageSize The maximum amount of properties on a page.
+     * @return The page of the property group.
+     * @throws NullPointerException if {@code propertyGroupName} or {@code properties} are
+     *                              {@code null}.
+     * @throws IllegalArgumentException if {@code page} is negative or {@code pageSize} isn't
+     *                                  positive.
+     * @since 1.0.3
+     */
+    @Contract(value = "_, _, _, _ -> new", pure = true)
+    public static @Unmodifiable @NotNull List<@NotNull Component> propertyGroupPage(
+            final @Nls(capitalization = Title) @NotNull String propertyGroupName,
+            final @NotNull Collection<@NotNull Property<? extends @NotNull Component>> properties,
+            final int page,
+            final int pageSize) {
+        return adventureText().propertyGroupPage(propertyGroupName, properties, page, pageSize);
+    }
+
+    /**
+     * Returns a new property message for each of the specified {@code properties}.
+     * <p>
+     * The messages are in the same order as the {@code properties}. Large batches are rendered in
+     * parallel.
+     *
+     * @author Sparky983
+     * @param properties The properties.
+     * @return The property messages.
+     * @throws NullPointerException if {@code properties} or any of its elements are {@code null}.
+     * @see #property(Property)
+     * @since 1.0.3
+     */
+    @Contract(value = "_ -> new", pure = true)
+    public static @Unmodifiable @NotNull List<@NotNull Component> properties(
+            final @NotNull Collection<@NotNull Property<? extends @NotNull Component>> properties) {
+        return adventureText().properties(properties);
+    }
+
+    /**
+     * Returns a new property group message for each entry of the specified
+     * {@code propertyGroups}.
+     * <p>
+     * The property groups are in the iteration order of {@code propertyGroups}, so pass an
+     * ordered map such as a {@link java.util.LinkedHashMap} to control the order. Large batches
+     * are rendered in parallel.
+     *
+     * @author Sparky983
+     * @param propertyGroups The properties of each group, by group name.
+     * @return The property groups.
+     * @throws NullPointerException if {@code propertyGroups} or any of its keys, values or
+     *                              properties are {@code null}.
+     * @see #propertyGroup(String, Collection)
+     * @since 1.0.3
+     */
+    @Contract(value = "_ -> new", pure = true)
+    public static @Unmodifiable @NotNull List<@NotNull List<@NotNull Component>> propertyGroups(
+            final @NotNull Map<@NotNull String,
+                    ? extends @NotNull Collection<@NotNull Property<? extends Component>>>
+                    propertyGroups) {
+        return adventureText().propertyGroups(propertyGroups);
+    }
 }
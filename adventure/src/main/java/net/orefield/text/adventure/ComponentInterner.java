@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2022 OreField
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.orefield.text.adventure;
+
+import net.kyori.adventure.text.Component;
+import net.orefield.text.util.Preconditions;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * A table deduplicating equal {@link Component} trees.
+ * <p>
+ * {@link #intern(Component)} returns a canonical instance for every equal subtree it has seen, so
+ * long-lived collections of messages, such as chat histories, share equal subtrees (the same
+ * player name, the same styled label) instead of holding equal copies.
+ * <p>
+ * Canonical instances are only weakly referenced: once no message refers to a subtree it is
+ * removed from the table. The table is also bounded; once it holds its maximum size, new subtrees
+ * are returned as is until existing ones are collected.
+ * <p>
+ * Interners are thread-safe. The table is split into independently locked stripes by hash, so
+ * threads interning different subtrees rarely contend. Each stripe holds an equal share of the
+ * maximum size.
+ * <p>
+ * Interning walks and hashes the whole tree, so it costs more than rendering. Intern messages
+ * that are kept around, not every message that is sent.
+ *
+ * @author Sparky983
+ * @see InterningText
+ * @since 1.0.3
+ */
+public final class ComponentInterner {
+
+    /**
+     * The default maximum amount of subtrees held by the table.
+     *
+     * @since 1.0.3
+     */
+    public static final int DEFAULT_MAXIMUM_SIZE = 4096;
+
+    /**
+     * The maximum amount of stripes the table is split into. Must be a power of two.
+     */
+    private static final int MAXIMUM_STRIPES = 16;
+
+    private final Map<Component, WeakReference<Component>>[] stripes;
+    private final int maximumStripeSize;
+
+    /**
+     * Constructs a new {@code ComponentInterner} holding at most
+     * {@link #DEFAULT_MAXIMUM_SIZE} subtrees.
+     *
+     * @author Sparky983
+     * @since 1.0.3
+     */
+    public ComponentInterner() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * Constructs a new {@code ComponentInterner} holding at most {@code maximumSize} subtrees.
+     *
+     * @author Sparky983
+     * @param maximumSize The maximum amount of subtrees.
+     * @throws IllegalArgumentException if {@code maximumSize} is negative.
+     * @since 1.0.3
+     */
+    @SuppressWarnings("unchecked")
+    public ComponentInterner(final int maximumSize) {
+        Preconditions.checkArgument(maximumSize >= 0, "[maximumSize] cannot be negative");
+
+        final int stripeCount = Math.max(1,
+                Integer.highestOneBit(Math.min(MAXIMUM_STRIPES, maximumSize)));
+        this.stripes = new Map[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new WeakHashMap<>();
+        }
+        this.maximumStripeSize = maximumSize / stripeCount;
+    }
+
+    /**
+     * Returns the canonical instance of the specified {@code component}.
+     * <p>
+     * The children of the component are interned first, so the returned component shares every
+     * subtree it has in common with previously interned components. The returned component is
+     * always equal to the specified component.
+     *
+     * @author Sparky983
+     * @param component The component.
+     * @return The canonical component.
+     * @throws NullPointerException if {@code component} is {@code null}.
+     * @since 1.0.3
+     */
+    public @NotNull Component intern(final @NotNull Component component) {
+        Preconditions.checkNotNull(component, "component");
+
+        return internTree(component);
+    }
+
+    /**
+     * Returns the amount of subtrees currently held by the table.
+     *
+     * @author Sparky983
+     * @return The amount of subtrees.
+     * @since 1.0.3
+     */
+    @Contract(pure = true)
+    public int size() {
+        int size = 0;
+        for (final Map<Component, WeakReference<Component>> stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Interns the children of the specified {@code component}, then the component itself.
+     *
+     * @author Sparky983
+     * @param component The component.
+     * @return The canonical component.
+     */
+    private @NotNull Component internTree(final @NotNull Component component) {
+        final List<Component> children = component.children();
+
+        List<Component> internedChildren = null;
+        for (int i = 0; i < children.size(); i++) {
+            final Component child = children.get(i);
+            final Component internedChild = internTree(child);
+            if (internedChild != child && internedChildren == null) {
+                internedChildren = new ArrayList<>(children);
+            }
+            if (internedChildren != null) {
+                internedChildren.set(i, internedChild);
+            }
+        }
+
+        final Component node = internedChildren == null
+                ? component
+                : component.children(internedChildren);
+        return internNode(node);
+    }
+
+    /**
+     * Returns the canonical instance of the specified {@code component}, whose children have
+     * already been interned.
+     *
+     * @author Sparky983
+     * @param component The component.
+     * @return The canonical component.
+     */
+    private @NotNull Component internNode(final @NotNull Component component) {
+        final int hash = component.hashCode();
+        final Map<Component, WeakReference<Component>> stripe =
+                stripes[(hash ^ (hash >>> 16)) & (stripes.length - 1)];
+
+        synchronized (stripe) {
+            final WeakReference<Component> reference = stripe.get(component);
+            final Component canonical = reference == null ? null : reference.get();
+            if (canonical != null) {
+                return canonical;
+            }
+
+            if (stripe.size() < maximumStripeSize) {
+                stripe.put(component, new WeakReference<>(component));
+            }
+            return component;
+        }
+    }
+}
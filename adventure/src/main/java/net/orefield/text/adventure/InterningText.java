@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2022 OreField
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.orefield.text.adventure;
+
+import static org.jetbrains.annotations.Nls.Capitalization.Title;
+
+import net.kyori.adventure.text.Component;
+import net.orefield.text.Category;
+import net.orefield.text.Property;
+import net.orefield.text.PropertyGroup;
+import net.orefield.text.Text;
+import net.orefield.text.util.Preconditions;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.Nls;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * A {@link Text} decorator {@link ComponentInterner#intern(Component) interning} every message it
+ * renders.
+ * <p>
+ * Use it to render messages that are kept around, such as chat history, so equal subtrees are
+ * shared between the kept messages:
+ * <pre>
+ * Text&lt;Component&gt; historyText = InterningText.wrap(
+ *         AdventureTexts.adventureText(),
+ *         new ComponentInterner());
+ * </pre>
+ *
+ * @author Sparky983
+ * @since 1.0.3
+ */
+public final class InterningText implements Text<Component> {
+
+    private final Text<Component> text;
+    private final ComponentInterner interner;
+
+    private InterningText(final @NotNull Text<Component> text,
+            final @NotNull ComponentInterner interner) {
+        this.text = text;
+        this.interner = interner;
+    }
+
+    /**
+     * Returns a new {@code InterningText} interning the messages of the specified {@code text} in
+     * the specified {@code interner}.
+     *
+     * @author Sparky983
+     * @param text The text to decorate.
+     * @param interner The interner.
+     * @return The interning text.
+     * @throws NullPointerException if {@code text} or {@code interner} are {@code null}.
+     * @since 1.0.3
+     */
+    @Contract(value = "_, _ -> new", pure = true)
+    public static @NotNull InterningText wrap(final @NotNull Text<Component> text,
+            final @NotNull ComponentInterner interner) {
+        Preconditions.checkNotNull(text, "text");
+        Preconditions.checkNotNull(interner, "interner");
+
+        return new InterningText(text, interner);
+    }
+
+    @Override
+    public @NotNull Component title(final @Nls(capitalization = Title) @NotNull String title) {
+        return interner.intern(text.title(title));
+    }
+
+    @Override
+    public @NotNull Component title(final @NotNull Category category) {
+        return interner.intern(text.title(category));
+    }
+
+    @Override
+    public @NotNull Component orefield() {
+        return interner.intern(text.orefield());
+    }
+
+    @Override
+    public @NotNull Component information(final @NotNull Category category,
+            final @NotNull Component message) {
+        return interner.intern(text.information(category, message));
+    }
+
+    @Override
+    public @NotNull Component error(final @NotNull Component message) {
+        return interner.intern(text.error(message));
+    }
+
+    @Override
+    public @NotNull Component warning(final @NotNull Component message) {
+        return interner.intern(text.warning(message));
+    }
+
+    @Override
+    public @NotNull Component callToAction(final @NotNull Component message) {
+        return interner.intern(text.callToAction(message));
+    }
+
+    @Override
+    public @NotNull Component property(final @NotNull Property<? extends Component> property) {
+        return interner.intern(text.property(property));
+    }
+
+    @Override
+    public @NotNull Component property(
+            final @Nls(capitalization = Title) @NotNull String propertyName,
+            final @NotNull Component value) {
+        return interner.intern(text.property(propertyName, value));
+    }
+
+    @Override
+    public @NotNull Component property(
+            final @Nls(capitalization = Title) @NotNull String propertyName,
+            final int value) {
+        return interner.intern(text.property(propertyName, value));
+    }
+
+    @Override
+    public @NotNull Component propertyValue(final @NotNull String value) {
+        return interner.intern(text.propertyValue(value));
+    }
+
+    @Override
+    public @NotNull Component property(
+            final @Nls(capitalization = Title) @NotNull String propertyName,
+            final long value) {
+        return interner.intern(text.property(propertyName, value));
+    }
+
+    @Override
+    public @NotNull Component property(
+            final @Nls(capitalization = Title) @NotNull String propertyName,
+            final double value) {
+        return interner.intern(text.property(propertyName, value));
+    }
+
+    @Override
+    public @NotNull @Unmodifiable List<@NotNull Component> propertyGroup(
+            final @Nls(capitalization = Title) @NotNull String propertyGroupName,
+            final @NotNull Collection<@NotNull Property<? extends Component>> properties) {
+        return intern(text.propertyGroup(propertyGroupName, properties));
+    }
+
+    @Override
+    public @NotNull @Unmodifiable List<@NotNull Component> propertyGroup(
+            final @NotNull PropertyGroup<? extends Component> propertyGroup) {
+        return intern(text.propertyGroup(propertyGroup));
+    }
+
+    @Override
+    public @NotNull Stream<@NotNull Component> propertyGroupStream(
+            final @Nls(capitalization = Title) @NotNull String propertyGroupName,
+            final @NotNull Collection<@NotNull Property<? extends Component>> properties) {
+        return text.propertyGroupStream(propertyGroupName, properties).map(interner::intern);
+    }
+
+    @Override
+    public @NotNull @Unmodifiable List<@NotNull Component> propertyGroupPage(
+            final @Nls(capitalization = Title) @NotNull String propertyGroupName,
+            final @NotNull Collection<@NotNull Property<? extends Component>> properties,
+            final int page,
+            final int pageSize) {
+        return intern(text.propertyGroupPage(propertyGroupName, properties, page, pageSize));
+    }
+
+    @Override
+    public @NotNull @Unmodifiable List<@NotNull Component> properties(
+            final @NotNull Collection<@NotNull Property<? extends Component>> properties) {
+        return intern(text.properties(properties));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public @NotNull @Unmodifiable List<@NotNull List<@NotNull Component>> propertyGroups(
+            final @NotNull Map<@NotNull String,
+                    ? extends @NotNull Collection<@NotNull Property<? extends Component>>>
+                    propertyGroups) {
+        final List<List<Component>> groups = text.propertyGroups(propertyGroups);
+
+        final List<Component>[] internedGroups = new List[groups.size()];
+        for (int i = 0; i < internedGroups.length; i++) {
+            internedGroups[i] = intern(groups.get(i));
+        }
+        return Collections.unmodifiableList(Arrays.asList(internedGroups));
+    }
+
+    /**
+     * Interns each of the specified {@code components}.
+     *
+     * @author Sparky983
+     * @param components The components.
+     * @return The interned components.
+     */
+    private @NotNull @Unmodifiable List<@NotNull Component> intern(
+            final @NotNull List<@NotNull Component> components) {
+        final Component[] internedComponents = new Component[components.size()];
+        for (int i = 0; i < internedComponents.length; i++) {
+            internedComponents[i] = interner.intern(components.get(i));
+        }
+        return Collections.unmodifiableList(Arrays.asList(internedComponents));
+    }
+}
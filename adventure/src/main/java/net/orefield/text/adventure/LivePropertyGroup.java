@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2022 OreField
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.orefield.text.adventure;
+
+import net.kyori.adventure.text.Component;
+import net.orefield.text.Property;
+import net.orefield.text.util.Preconditions;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A property group that is rendered repeatedly as its values change, such as a scoreboard.
+ * <p>
+ * The group remembers the lines it rendered last. Each {@link #update(Collection)} only rebuilds
+ * the lines whose property changed, and returns their indexes, so only those lines need to be
+ * sent again:
+ * <pre>
+ * LivePropertyGroup server = AdventureTexts.adventureText().livePropertyGroup("Server");
+ *
+ * // Every tick
+ * BitSet dirty = server.update(Arrays.asList(tps, players, memory));
+ * for (int i = dirty.nextSetBit(0); i &gt;= 0; i = dirty.nextSetBit(i + 1)) {
+ *     sendLine(i, server.lines().get(i));
+ * }
+ * </pre>
+ * <p>
+ * Line {@code 0} is the header, line {@code i + 1} is the property at index {@code i}. The lines
+ * are the same as those rendered by {@link AdventureText#propertyGroup(String, Collection)}.
+ * <p>
+ * Live property groups aren't thread-safe.
+ *
+ * @author Sparky983
+ * @see AdventureText#livePropertyGroup(String)
+ * @since 1.0.3
+ */
+public final class LivePropertyGroup {
+
+    private final AdventureText text;
+
+    private final List<Component> lines = new ArrayList<>();
+    private final List<Component> unmodifiableLines = Collections.unmodifiableList(lines);
+
+    private final List<String> propertyNames = new ArrayList<>();
+    private final List<Component> values = new ArrayList<>();
+
+    /**
+     * Constructs a new {@code LivePropertyGroup} with no properties.
+     *
+     * @author Sparky983
+     * @param text The text the lines are rendered with.
+     * @param propertyGroupName The group name.
+     */
+    LivePropertyGroup(final @NotNull AdventureText text,
+            final @NotNull String propertyGroupName) {
+        this.text = text;
+        lines.add(text.createPropertyGroupHeader(propertyGroupName));
+    }
+
+    /**
+     * Updates the group to the specified {@code properties}, and returns the indexes of the lines
+     * that changed.
+     * <p>
+     * A line changed if its property name or value isn't {@link Object#equals(Object) equal} to
+     * the previous update's, or if it was added by this update. Returning the same value
+     * instance is the cheapest case. If there are fewer properties than in the previous update,
+     * the lines past the new {@link #size()} are removed; they aren't part of the returned
+     * indexes.
+     * <p>
+     * The {@code properties} are validated before the group is changed, so a call that throws
+     * leaves the group as it was.
+     *
+     * @author Sparky983
+     * @param properties The properties.
+     * @return The indexes of the changed lines.
+     * @throws NullPointerException if {@code properties} or any of its elements are
+     *                              {@code null}.
+     * @since 1.0.3
+     */
+    @SuppressWarnings("unchecked")
+    public @NotNull BitSet update(
+            final @NotNull Collection<@NotNull Property<? extends Component>> properties) {
+        Preconditions.checkNotNull(properties, "properties");
+
+        final Property<? extends Component>[] inputs = properties.toArray(new Property[0]);
+        for (int i = 0; i < inputs.length; i++) {
+            Preconditions.checkElementNotNull(inputs[i], "properties", i);
+        }
+
+        final BitSet dirty = new BitSet(inputs.length + 1);
+
+        int i = 0;
+        for (final Property<? extends Component> property : inputs) {
+            final String propertyName = property.getPropertyName();
+            final Component value = property.getValue();
+            if (i < values.size()) {
+                if (value.equals(values.get(i)) && propertyName.equals(propertyNames.get(i))) {
+                    i++;
+                    continue;
+                }
+                propertyNames.set(i, propertyName);
+                values.set(i, value);
+                lines.set(i + 1, text.createPropertyGroupLine(property));
+            } else {
+                propertyNames.add(propertyName);
+                values.add(value);
+                lines.add(text.createPropertyGroupLine(property));
+            }
+            dirty.set(i + 1);
+            i++;
+        }
+
+        while (values.size() > i) {
+            final int last = values.size() - 1;
+            propertyNames.remove(last);
+            values.remove(last);
+            lines.remove(last + 1);
+        }
+
+        return dirty;
+    }
+
+    /**
+     * Returns the lines of the group, including the header.
+     * <p>
+     * The returned list is an unmodifiable view, reflecting later updates.
+     *
+     * @author Sparky983
+     * @return The lines.
+     * @since 1.0.3
+     */
+    @Contract(pure = true)
+    public @NotNull @Unmodifiable List<@NotNull Component> lines() {
+        return unmodifiableLines;
+    }
+
+    /**
+     * Returns the amount of lines of the group, including the header.
+     *
+     * @author Sparky983
+     * @return The amount of lines.
+     * @since 1.0.3
+     */
+    @Contract(pure = true)
+    public int size() {
+        return lines.size();
+    }
+}
@@ -0,0 +1,355 @@
+/*
+ * Copyright (c) 2022 OreField
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.orefield.text.adventure;
+
+import static org.jetbrains.annotations.Nls.Capitalization.Title;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.ComponentLike;
+import net.kyori.adventure.text.TextComponent;
+import net.orefield.text.Category;
+import net.orefield.text.Text;
+import net.orefield.text.util.Preconditions;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.Nls;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+/**
+ * A message compiled once and rendered many times with different placeholder values.
+ * <p>
+ * A template is created from a pattern such as {@code "<player> was banned for <reason>"}, in
+ * which each {@code <name>} is a placeholder. The literal parts of the pattern are built into
+ * components when the template is compiled, and the message shape (for example an
+ * {@link Text#information(Category, Object) information} prefix) is applied by the {@link Text}
+ * used to compile the template, so rendering only fills in the placeholder slots.
+ * <p>
+ * For example:
+ * <pre>
+ * MessageTemplate banned = MessageTemplate.information(
+ *         AdventureTexts.adventureText(),
+ *         Category.PUNISH,
+ *         "&lt;player&gt; was banned for &lt;reason&gt;");
+ *
+ * Component message = banned.render(player.name(), Component.text("hacking"));
+ * </pre>
+ * Placeholder names may contain letters, digits, {@code _} and {@code -}. A {@code <} that
+ * doesn't start a valid placeholder is kept as literal text. A placeholder used more than once in
+ * a pattern is a single slot.
+ * <p>
+ * Templates are immutable and thread-safe.
+ *
+ * @author Sparky983
+ * @since 1.0.3
+ */
+public final class MessageTemplate {
+
+    private final Component[] parts;
+    private final int[] slots;
+    private final List<String> placeholders;
+    private final UnaryOperator<Component> shape;
+    private final Component staticMessage;
+
+    /**
+     * Constructs a new {@code MessageTemplate}.
+     *
+     * @author Sparky983
+     * @param pattern The pattern.
+     * @param shape The shape applied to the rendered body.
+     * @throws NullPointerException if {@code pattern} or {@code shape} are {@code null}.
+     */
+    private MessageTemplate(final @NotNull String pattern,
+            final @NotNull UnaryOperator<Component> shape) {
+        Preconditions.checkNotNull(pattern, "pattern");
+        this.shape = Preconditions.checkNotNull(shape, "shape");
+
+        final List<Component> parts = new ArrayList<>();
+        final List<Integer> slots = new ArrayList<>();
+        final List<String> placeholders = new ArrayList<>();
+
+        final StringBuilder literal = new StringBuilder();
+        int i = 0;
+        while (i < pattern.length()) {
+            final char c = pattern.charAt(i);
+            final int end = c == '<' ? placeholderEnd(pattern, i) : -1;
+            if (end == -1) {
+                literal.append(c);
+                i++;
+                continue;
+            }
+
+            if (literal.length() > 0) {
+                parts.add(Component.text(literal.toString()));
+                slots.add(-1);
+                literal.setLength(0);
+            }
+
+            final String placeholder = pattern.substring(i + 1, end);
+            int slot = placeholders.indexOf(placeholder);
+            if (slot == -1) {
+                slot = placeholders.size();
+                placeholders.add(placeholder);
+            }
+            parts.add(null);
+            slots.add(slot);
+            i = end + 1;
+        }
+        if (literal.length() > 0) {
+            parts.add(Component.text(literal.toString()));
+            slots.add(-1);
+        }
+
+        this.parts = parts.toArray(new Component[0]);
+        this.slots = new int[slots.size()];
+        for (int j = 0; j < this.slots.length; j++) {
+            this.slots[j] = slots.get(j);
+        }
+        this.placeholders = Collections.unmodifiableList(placeholders);
+        this.staticMessage = placeholders.isEmpty() ? render(new ComponentLike[0]) : null;
+    }
+
+    /**
+     * Compiles a template of a plain message with the specified {@code pattern}.
+     *
+     * @author Sparky983
+     * @param pattern The pattern.
+     * @return The template.
+     * @throws NullPointerException if {@code pattern} is {@code null}.
+     * @since 1.0.3
+     */
+    @Contract(value = "_ -> new", pure = true)
+    public static @NotNull MessageTemplate compile(final @NotNull String pattern) {
+        return new MessageTemplate(pattern, UnaryOperator.identity());
+    }
+
+    /**
+     * Compiles a template of an {@link Text#information(Category, Object) information} message
+     * with the specified {@code category} and {@code pattern}.
+     *
+     * @author Sparky983
+     * @param text The text used to shape the message.
+     * @param category The category.
+     * @param pattern The pattern of the message.
+     * @return The template.
+     * @throws NullPointerException if {@code text}, {@code category} or {@code pattern} are
+     *                              {@code null}.
+     * @since 1.0.3
+     */
+    @Contract(value = "_, _, _ -> new", pure = true)
+    public static @NotNull MessageTemplate information(final @NotNull Text<Component> text,
+            final @NotNull Category category,
+            final @NotNull String pattern) {
+        Preconditions.checkNotNull(text, "text");
+        Preconditions.checkNotNull(category, "category");
+
+        return new MessageTemplate(pattern, (body) -> text.information(category, body));
+    }
+
+    /**
+     * Compiles a template of an {@link Text#error(Object) error} message with the specified
+     * {@code pattern}.
+     *
+     * @author Sparky983
+     * @param text The text used to shape the message.
+     * @param pattern The pattern of the message.
+     * @return The template.
+     * @throws NullPointerException if {@code text} or {@code pattern} are {@code null}.
+     * @since 1.0.3
+     */
+    @Contract(value = "_, _ -> new", pure = true)
+    public static @NotNull MessageTemplate error(final @NotNull Text<Component> text,
+            final @NotNull String pattern) {
+        Preconditions.checkNotNull(text, "text");
+
+        return new MessageTemplate(pattern, text::error);
+    }
+
+    /**
+     * Compiles a template of a {@link Text#warning(Object) warning} message with the specified
+     * {@code pattern}.
+     *
+     * @author Sparky983
+     * @param text The text used to shape the message.
+     * @param pattern The pattern of the message.
+     * @return The template.
+     * @throws NullPointerException if {@code text} or {@code pattern} are {@code null}.
+     * @since 1.0.3
+     */
+    @Contract(value = "_, _ -> new", pure = true)
+    public static @NotNull MessageTemplate warning(final @NotNull Text<Component> text,
+            final @NotNull String pattern) {
+        Preconditions.checkNotNull(text, "text");
+
+        return new MessageTemplate(pattern, text::warning);
+    }
+
+    /**
+     * Compiles a template of a {@link Text#callToAction(Object) call to action} with the
+     * specified {@code pattern}.
+     *
+     * @author Sparky983
+     * @param text The text used to shape the message.
+     * @param pattern The pattern of the message.
+     * @return The template.
+     * @throws NullPointerException if {@code text} or {@code pattern} are {@code null}.
+     * @since 1.0.3
+     */
+    @Contract(value = "_, _ -> new", pure = true)
+    public static @NotNull MessageTemplate callToAction(final @NotNull Text<Component> text,
+            final @NotNull String pattern) {
+        Preconditions.checkNotNull(text, "text");
+
+        return new MessageTemplate(pattern, text::callToAction);
+    }
+
+    /**
+     * Compiles a template of a {@link Text#property(String, Object) property} with the specified
+     * {@code propertyName} and value {@code pattern}.
+     *
+     * @author Sparky983
+     * @param text The text used to shape the message.
+     * @param propertyName The property name.
+     * @param pattern The pattern of the property value.
+     * @return The template.
+     * @throws NullPointerException if {@code text}, {@code propertyName} or {@code pattern} are
+     *                              {@code null}.
+     * @since 1.0.3
+     */
+    @Contract(value = "_, _, _ -> new", pure = true)
+    public static @NotNull MessageTemplate property(final @NotNull Text<Component> text,
+            final @Nls(capitalization = Title) @NotNull String propertyName,
+            final @NotNull String pattern) {
+        Preconditions.checkNotNull(text, "text");
+        Preconditions.checkNotNull(propertyName, "propertyName");
+
+        return new MessageTemplate(pattern, (body) -> text.property(propertyName, body));
+    }
+
+    /**
+     * Returns the names of the placeholders, in the order they first appear in the pattern.
+     * <p>
+     * This is the order values must be passed to {@link #render(ComponentLike...)} in.
+     *
+     * @author Sparky983
+     * @return The placeholder names.
+     * @since 1.0.3
+     */
+    @Contract(pure = true)
+    public @NotNull @Unmodifiable List<@NotNull String> placeholders() {
+        return placeholders;
+    }
+
+    /**
+     * Renders the template with the specified placeholder {@code values}.
+     *
+     * @author Sparky983
+     * @param values The value of each placeholder, in the order of {@link #placeholders()}.
+     * @return The rendered message.
+     * @throws NullPointerException if {@code values} or any of its elements are {@code null}.
+     * @throws IllegalArgumentException if the amount of {@code values} isn't the amount of
+     *                                  placeholders.
+     * @since 1.0.3
+     */
+    @Contract(pure = true)
+    public @NotNull Component render(final @NotNull ComponentLike @NotNull ... values) {
+        Preconditions.checkNotNull(values, "values");
+        if (values.length != placeholders.size()) {
+            throw new IllegalArgumentException("[values] must contain exactly "
+                    + placeholders.size() + " values");
+        }
+
+        if (staticMessage != null) {
+            return staticMessage;
+        }
+
+        final TextComponent.Builder body = Component.text();
+        for (int i = 0; i < parts.length; i++) {
+            final int slot = slots[i];
+            if (slot == -1) {
+                body.append(parts[i]);
+            } else {
+                body.append(Preconditions.checkElementNotNull(values[slot], "values", slot));
+            }
+        }
+
+        return shape.apply(body.build());
+    }
+
+    /**
+     * Renders the template with the specified placeholder {@code values}.
+     *
+     * @author Sparky983
+     * @param values The value of each placeholder, by placeholder name.
+     * @return The rendered message.
+     * @throws NullPointerException if {@code values} is {@code null}.
+     * @throws IllegalArgumentException if {@code values} is missing a placeholder.
+     * @since 1.0.3
+     */
+    @Contract(pure = true)
+    public @NotNull Component render(
+            final @NotNull Map<@NotNull String, ? extends @NotNull ComponentLike> values) {
+        Preconditions.checkNotNull(values, "values");
+
+        final ComponentLike[] orderedValues = new ComponentLike[placeholders.size()];
+        for (int i = 0; i < orderedValues.length; i++) {
+            final String placeholder = placeholders.get(i);
+            final ComponentLike value = values.get(placeholder);
+            if (value == null) {
+                throw new IllegalArgumentException("[values] is missing placeholder <"
+                        + placeholder + ">");
+            }
+            orderedValues[i] = value;
+        }
+
+        return render(orderedValues);
+    }
+
+    /**
+     * Returns the index of the {@code >} closing the placeholder starting at {@code start}.
+     *
+     * @author Sparky983
+     * @param pattern The pattern.
+     * @param start The index of the {@code <}.
+     * @return The index of the {@code >}, or {@code -1} if there is no valid placeholder at
+     *         {@code start}.
+     */
+    private static int placeholderEnd(final @NotNull String pattern, final int start) {
+        for (int i = start + 1; i < pattern.length(); i++) {
+            final char c = pattern.charAt(i);
+            if (c == '>') {
+                return i == start + 1 ? -1 : i;
+            }
+            if (!Character.isLetterOrDigit(c) && c != '_' && c != '-') {
+                return -1;
+            }
+        }
+        return -1;
+    }
+}
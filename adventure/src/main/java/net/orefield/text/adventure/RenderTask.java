@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2022 OreField
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.orefield.text.adventure;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+
+/**
+ * A fork/join task rendering each input of an array into the same index of an output array.
+ * <p>
+ * Ranges larger than {@link #leafSize} are split in half and rendered in parallel, so the output
+ * order always matches the input order.
+ *
+ * @author Sparky983
+ * @param <I> The input type.
+ * @param <O> The output type.
+ */
+final class RenderTask<I, O> extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private final I[] inputs;
+    private final O[] outputs;
+    private final Function<? super I, ? extends O> renderer;
+    private final int leafSize;
+    private final int from;
+    private final int to;
+
+    /**
+     * Constructs a new {@code RenderTask} rendering {@code inputs} from {@code from} (inclusive)
+     * to {@code to} (exclusive).
+     *
+     * @author Sparky983
+     * @param inputs The inputs.
+     * @param outputs The outputs. This must be at least as long as {@code inputs}.
+     * @param renderer The renderer.
+     * @param leafSize The maximum amount of inputs rendered without splitting.
+     * @param from The first index.
+     * @param to The index after the last index.
+     */
+    RenderTask(final I @NotNull [] inputs,
+            final O @NotNull [] outputs,
+            final @NotNull Function<? super I, ? extends O> renderer,
+            final int leafSize,
+            final int from,
+            final int to) {
+        this.inputs = inputs;
+        this.outputs = outputs;
+        this.renderer = renderer;
+        this.leafSize = leafSize;
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+        if (to - from <= leafSize) {
+            for (int i = from; i < to; i++) {
+                outputs[i] = renderer.apply(inputs[i]);
+            }
+            return;
+        }
+
+        final int middle = (from + to) >>> 1;
+        invokeAll(
+                new RenderTask<>(inputs, outputs, renderer, leafSize, from, middle),
+                new RenderTask<>(inputs, outputs, renderer, leafSize, middle, to)
+        );
+    }
+}
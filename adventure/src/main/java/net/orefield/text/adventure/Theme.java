@@ -0,0 +1,316 @@
+/*
+ * Copyright (c) 2022 OreField
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.orefield.text.adventure;
+
+import net.kyori.adventure.text.format.TextColor;
+import net.orefield.text.util.Preconditions;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The colors used to render messages.
+ * <p>
+ * Themes are immutable. Start from {@link #DEFAULT} and replace colors with the {@code with}
+ * methods, then create a text with {@link AdventureText#withTheme(Theme)}:
+ * <pre>
+ * Theme halloween = Theme.DEFAULT
+ *         .withMain(NamedTextColor.DARK_PURPLE)
+ *         .withAccent(TextColor.color(0xFF7518));
+ *
+ * AdventureText text = AdventureTexts.adventureText().withTheme(halloween);
+ * </pre>
+ *
+ * @author Sparky983
+ * @since 1.0.3
+ */
+public final class Theme {
+
+    /**
+     * The default theme, using the color constants of {@link AdventureText}.
+     *
+     * @since 1.0.3
+     */
+    public static final Theme DEFAULT = new Theme(
+            AdventureText.MAIN,
+            AdventureText.ACCENT,
+            AdventureText.GRAY,
+            AdventureText.DARK_GRAY,
+            AdventureText.CALL_TO_ACTION,
+            AdventureText.ERROR,
+            AdventureText.WARNING);
+
+    private final TextColor main;
+    private final TextColor accent;
+    private final TextColor gray;
+    private final TextColor darkGray;
+    private final TextColor callToAction;
+    private final TextColor error;
+    private final TextColor warning;
+
+    private Theme(final @NotNull TextColor main,
+            final @NotNull TextColor accent,
+            final @NotNull TextColor gray,
+            final @NotNull TextColor darkGray,
+            final @NotNull TextColor callToAction,
+            final @NotNull TextColor error,
+            final @NotNull TextColor warning) {
+        this.main = main;
+        this.accent = accent;
+        this.gray = gray;
+        this.darkGray = darkGray;
+        this.callToAction = callToAction;
+        this.error = error;
+        this.warning = warning;
+    }
+
+    /**
+     * Returns the main color.
+     * <p>
+     * The main color, used for information categories.
+     *
+     * @author Sparky983
+     * @return The color.
+     * @see AdventureText#MAIN
+     * @since 1.0.3
+     */
+    @Contract(pure = true)
+    public @NotNull TextColor main() {
+        return main;
+    }
+
+    /**
+     * Returns a copy of this theme with the specified main {@code color}.
+     *
+     * @author Sparky983
+     * @param color The color.
+     * @return The new theme.
+     * @throws NullPointerException if {@code color} is {@code null}.
+     * @since 1.0.3
+     */
+    @Contract(value = "_ -> new", pure = true)
+    public @NotNull Theme withMain(final @NotNull TextColor color) {
+        Preconditions.checkNotNull(color, "color");
+
+        return new Theme(color, accent, gray, darkGray, callToAction, error, warning);
+    }
+
+    /**
+     * Returns the accent color.
+     * <p>
+     * The accent color, used for titles and property group names.
+     *
+     * @author Sparky983
+     * @return The color.
+     * @see AdventureText#ACCENT
+     * @since 1.0.3
+     */
+    @Contract(pure = true)
+    public @NotNull TextColor accent() {
+        return accent;
+    }
+
+    /**
+     * Returns a copy of this theme with the specified accent {@code color}.
+     *
+     * @author Sparky983
+     * @param color The color.
+     * @return The new theme.
+     * @throws NullPointerException if {@code color} is {@code null}.
+     * @since 1.0.3
+     */
+    @Contract(value = "_ -> new", pure = true)
+    public @NotNull Theme withAccent(final @NotNull TextColor color) {
+        Preconditions.checkNotNull(color, "color");
+
+        return new Theme(main, color, gray, darkGray, callToAction, error, warning);
+    }
+
+    /**
+     * Returns the gray color.
+     * <p>
+     * The gray color, used for property names.
+     *
+     * @author Sparky983
+     * @return The color.
+     * @see AdventureText#GRAY
+     * @since 1.0.3
+     */
+    @Contract(pure = true)
+    public @NotNull TextColor gray() {
+        return gray;
+    }
+
+    /**
+     * Returns a copy of this theme with the specified gray {@code color}.
+     *
+     * @author Sparky983
+     * @param color The color.
+     * @return The new theme.
+     * @throws NullPointerException if {@code color} is {@code null}.
+     * @since 1.0.3
+     */
+    @Contract(value = "_ -> new", pure = true)
+    public @NotNull Theme withGray(final @NotNull TextColor color) {
+        Preconditions.checkNotNull(color, "color");
+
+        return new Theme(main, accent, color, darkGray, callToAction, error, warning);
+    }
+
+    /**
+     * Returns the dark gray color.
+     * <p>
+     * The dark gray color, used for the information separator.
+     *
+     * @author Sparky983
+     * @return The color.
+     * @see AdventureText#DARK_GRAY
+     * @since 1.0.3
+     */
+    @Contract(pure = true)
+    public @NotNull TextColor darkGray() {
+        return darkGray;
+    }
+
+    /**
+     * Returns a copy of this theme with the specified dark gray {@code color}.
+     *
+     * @author Sparky983
+     * @param color The color.
+     * @return The new theme.
+     * @throws NullPointerException if {@code color} is {@code null}.
+     * @since 1.0.3
+     */
+    @Contract(value = "_ -> new", pure = true)
+    public @NotNull Theme withDarkGray(final @NotNull TextColor color) {
+        Preconditions.checkNotNull(color, "color");
+
+        return new Theme(main, accent, gray, color, callToAction, error, warning);
+    }
+
+    /**
+     * Returns the call to action color.
+     * <p>
+     * The call to action color, used for call to action messages.
+     *
+     * @author Sparky983
+     * @return The color.
+     * @see AdventureText#CALL_TO_ACTION
+     * @since 1.0.3
+     */
+    @Contract(pure = true)
+    public @NotNull TextColor callToAction() {
+        return callToAction;
+    }
+
+    /**
+     * Returns a copy of this theme with the specified call to action {@code color}.
+     *
+     * @author Sparky983
+     * @param color The color.
+     * @return The new theme.
+     * @throws NullPointerException if {@code color} is {@code null}.
+     * @since 1.0.3
+     */
+    @Contract(value = "_ -> new", pure = true)
+    public @NotNull Theme withCallToAction(final @NotNull TextColor color) {
+        Preconditions.checkNotNull(color, "color");
+
+        return new Theme(main, accent, gray, darkGray, color, error, warning);
+    }
+
+    /**
+     * Returns the error color.
+     * <p>
+     * The error color, used for the label of error messages.
+     *
+     * @author Sparky983
+     * @return The color.
+     * @see AdventureText#ERROR
+     * @since 1.0.3
+     */
+    @Contract(pure = true)
+    public @NotNull TextColor error() {
+        return error;
+    }
+
+    /**
+     * Returns a copy of this theme with the specified error {@code color}.
+     *
+     * @author Sparky983
+     * @param color The color.
+     * @return The new theme.
+     * @throws NullPointerException if {@code color} is {@code null}.
+     * @since 1.0.3
+     */
+    @Contract(value = "_ -> new", pure = true)
+    public @NotNull Theme withError(final @NotNull TextColor color) {
+        Preconditions.checkNotNull(color, "color");
+
+        return new Theme(main, accent, gray, darkGray, callToAction, color, warning);
+    }
+
+    /**
+     * Returns the warning color.
+     * <p>
+     * The warning color, used for the label of warning messages.
+     *
+     * @author Sparky983
+     * @return The color.
+     * @see AdventureText#WARNING
+     * @since 1.0.3
+     */
+    @Contract(pure = true)
+    public @NotNull TextColor warning() {
+        return warning;
+    }
+
+    /**
+     * Returns a copy of this theme with the specified warning {@code color}.
+     *
+     * @author Sparky983
+     * @param color The color.
+     * @return The new theme.
+     * @throws NullPointerException if {@code color} is {@code null}.
+     * @since 1.0.3
+     */
+    @Contract(value = "_ -> new", pure = true)
+    public @NotNull Theme withWarning(final @NotNull TextColor color) {
+        Preconditions.checkNotNull(color, "color");
+
+        return new Theme(main, accent, gray, darkGray, callToAction, error, color);
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "Theme("
+                + "main=" + main
+                + ", accent=" + accent
+                + ", gray=" + gray
+                + ", darkGray=" + darkGray
+                + ", callToAction=" + callToAction
+                + ", error=" + error
+                + ", warning=" + warning
+                + ')';
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2022 OreField
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.orefield.text.adventure;
+
+import static org.jetbrains.annotations.Nls.Capitalization.Title;
+
+import net.orefield.text.Category;
+import net.orefield.text.Text;
+import net.orefield.text.util.Preconditions;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.Nls;
+import org.jetbrains.annotations.NonNls;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Locale;
+import java.util.ResourceBundle;
+
+/**
+ * The translatable labels of an {@link AdventureText}.
+ * <p>
+ * The labels are resolved once when the {@code Translations} are created, so rendering never has
+ * to look up a translation.
+ *
+ * @author Sparky983
+ * @see AdventureText#withLocale(Locale)
+ */
+final class Translations {
+
+    /**
+     * The base name of the bundled translations.
+     */
+    static final @NonNls String BUNDLE_NAME = "net.orefield.text.adventure.messages";
+
+    /**
+     * The default (English) translations.
+     */
+    static final Translations DEFAULT = new Translations(
+            "Error: ",
+            "Warning: ",
+            Text.SEPARATOR + " ",
+            null);
+
+    private static final @NonNls String CATEGORY_KEY_PREFIX = "category.";
+
+    private final String error;
+    private final String warning;
+    private final String separator;
+    private final @Nullable ResourceBundle bundle;
+
+    private Translations(final @Nls @NotNull String error,
+            final @Nls @NotNull String warning,
+            final @Nls @NotNull String separator,
+            final @Nullable ResourceBundle bundle) {
+        this.error = error;
+        this.warning = warning;
+        this.separator = separator;
+        this.bundle = bundle;
+    }
+
+    /**
+     * Returns the bundled translations for the specified {@code locale}.
+     * <p>
+     * Missing labels fall back to the parent locales and then to {@link #DEFAULT}. The default
+     * locale of the JVM is never used as a fallback.
+     *
+     * @author Sparky983
+     * @param locale The locale.
+     * @return The translations.
+     * @throws NullPointerException if {@code locale} is {@code null}.
+     */
+    @Contract(value = "_ -> new", pure = true)
+    static @NotNull Translations of(final @NotNull Locale locale) {
+        return of(bundle(locale));
+    }
+
+    /**
+     * Returns the bundled translations resource bundle for the specified {@code locale}.
+     * <p>
+     * The {@link ResourceBundle#getLocale() locale} of the returned bundle is the locale of the
+     * most specific bundled translations for the {@code locale}, or {@link Locale#ROOT} if there
+     * are none. The default locale of the JVM is never used as a fallback.
+     *
+     * @author Sparky983
+     * @param locale The locale.
+     * @return The bundle.
+     * @throws NullPointerException if {@code locale} is {@code null}.
+     */
+    @Contract(pure = true)
+    static @NotNull ResourceBundle bundle(final @NotNull Locale locale) {
+        Preconditions.checkNotNull(locale, "locale");
+
+        return ResourceBundle.getBundle(
+                BUNDLE_NAME,
+                locale,
+                ResourceBundle.Control.getNoFallbackControl(
+                        ResourceBundle.Control.FORMAT_PROPERTIES)
+        );
+    }
+
+    /**
+     * Returns the translations in the specified {@code bundle}.
+     * <p>
+     * Missing labels fall back to {@link #DEFAULT}.
+     *
+     * @author Sparky983
+     * @param bundle The bundle.
+     * @return The translations.
+     * @throws NullPointerException if {@code bundle} is {@code null}.
+     */
+    @Contract(value = "_ -> new", pure = true)
+    static @NotNull Translations of(final @NotNull ResourceBundle bundle) {
+        Preconditions.checkNotNull(bundle, "bundle");
+
+        return new Translations(
+                string(bundle, "error", DEFAULT.error),
+                string(bundle, "warning", DEFAULT.warning),
+                string(bundle, "separator", DEFAULT.separator),
+                bundle);
+    }
+
+    /**
+     * Returns the error label.
+     *
+     * @author Sparky983
+     * @return The error label.
+     */
+    @Contract(pure = true)
+    @Nls @NotNull String error() {
+        return error;
+    }
+
+    /**
+     * Returns the warning label.
+     *
+     * @author Sparky983
+     * @return The warning label.
+     */
+    @Contract(pure = true)
+    @Nls @NotNull String warning() {
+        return warning;
+    }
+
+    /**
+     * Returns the separator used by information messages, including the trailing space.
+     *
+     * @author Sparky983
+     * @return The separator.
+     */
+    @Contract(pure = true)
+    @Nls @NotNull String separator() {
+        return separator;
+    }
+
+    /**
+     * Returns the translated name of the specified {@code category}.
+     *
+     * @author Sparky983
+     * @param category The category.
+     * @return The translated name, or {@code null} if the category isn't translated.
+     */
+    @Contract(pure = true)
+    @Nls(capitalization = Title) @Nullable String category(final @NotNull Category category) {
+        if (bundle == null) {
+            return null;
+        }
+        return string(bundle, CATEGORY_KEY_PREFIX + category.getName(), null);
+    }
+
+    /**
+     * Returns the string with the specified {@code key} in the {@code bundle}.
+     *
+     * @author Sparky983
+     * @param bundle The bundle.
+     * @param key The key.
+     * @param defaultValue The value returned if the bundle doesn't contain the key.
+     * @return The string.
+     */
+    @Contract(pure = true)
+    private static @Nullable String string(final @NotNull ResourceBundle bundle,
+            final @NonNls @NotNull String key,
+            final @Nullable String defaultValue) {
+        return bundle.containsKey(key) ? bundle.getString(key) : defaultValue;
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2022 OreField
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.orefield.text.adventure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import net.kyori.adventure.text.Component;
+import net.orefield.text.Category;
+import net.orefield.text.Property;
+import net.orefield.text.async.AsyncText;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@SuppressWarnings("ConstantConditions")
+class AdventureTextAsyncTest {
+
+    private final ExecutorService executor = AsyncText.defaultExecutor();
+    private final AsyncText<Component> text = AdventureTexts.adventureText().async(executor);
+
+    private final List<Property<? extends Component>> properties = Arrays.asList(
+            Property.of("Name", Component.text("Sparky983")),
+            Property.of("Rank", Component.text("Owner")));
+
+    @AfterEach
+    void shutdownExecutor() {
+        executor.shutdownNow();
+    }
+
+    private static <T> T await(final CompletableFuture<T> future) throws Exception {
+        return future.get(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void methods_CompleteWithRenderedMessages() throws Exception {
+        final Component message = Component.text("Hello");
+
+        assertEquals(AdventureTexts.title("Title"), await(text.title("Title")));
+        assertEquals(AdventureTexts.title(Category.CHAT), await(text.title(Category.CHAT)));
+        assertEquals(AdventureTexts.orefield(), await(text.orefield()));
+        assertEquals(AdventureTexts.information(Category.CHAT, message),
+                await(text.information(Category.CHAT, message)));
+        assertEquals(AdventureTexts.error(message), await(text.error(message)));
+        assertEquals(AdventureTexts.warning(message), await(text.warning(message)));
+        assertEquals(AdventureTexts.callToAction(message), await(text.callToAction(message)));
+        assertEquals(AdventureTexts.property("Players", 20), await(text.property("Players", 20)));
+        assertEquals(AdventureTexts.property("TPS", 19.5), await(text.property("TPS", 19.5)));
+        assertEquals(AdventureTexts.propertyGroup("Player", properties),
+                await(text.propertyGroup("Player", properties)));
+        assertEquals(AdventureTexts.propertyGroupPage("Player", properties, 1, 1),
+                await(text.propertyGroupPage("Player", properties, 1, 1)));
+        assertEquals(AdventureTexts.properties(properties), await(text.properties(properties)));
+        assertEquals(
+                AdventureTexts.propertyGroups(Collections.singletonMap("Player", properties)),
+                await(text.propertyGroups(Collections.singletonMap("Player", properties))));
+    }
+
+    @Test
+    void methods_RenderOnExecutor() throws Exception {
+        final AtomicInteger tasks = new AtomicInteger();
+        final AsyncText<Component> text = AdventureTexts.adventureText().async((task) -> {
+            tasks.incrementAndGet();
+            executor.execute(task);
+        });
+
+        assertEquals(AdventureTexts.title("Title"), await(text.title("Title")));
+        assertEquals(1, tasks.get());
+    }
+
+    @Test
+    void methods_ThrowOnCallingThread_WhenArgumentsAreInvalid() {
+        assertThrows(NullPointerException.class, () -> text.error(null));
+        assertThrows(NullPointerException.class, () -> text.property(null, 20));
+        assertThrows(NullPointerException.class, () -> text.propertyGroup("Player", null));
+        assertThrows(IllegalArgumentException.class,
+                () -> text.propertyGroupPage("Player", properties, -1, 10));
+        assertThrows(NullPointerException.class, () -> AsyncText.wrap(null, executor));
+        assertThrows(NullPointerException.class,
+                () -> AdventureTexts.adventureText().async(null));
+    }
+
+    @Test
+    void methods_CompleteExceptionally_WhenRenderingFails() {
+        final CompletableFuture<List<Component>> group = text.propertyGroup("Player",
+                Collections.singletonList(null));
+
+        final ExecutionException exception =
+                assertThrows(ExecutionException.class, () -> await(group));
+        assertInstanceOf(NullPointerException.class, exception.getCause());
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2022 OreField
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.orefield.text.adventure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import net.kyori.adventure.text.Component;
+import net.orefield.text.Property;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+@SuppressWarnings("ConstantConditions")
+class AdventureTextBatchTest {
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    private final AdventureText sequentialText = new AdventureText(pool, Integer.MAX_VALUE);
+    private final AdventureText parallelText = new AdventureText(pool, 1);
+
+    @AfterEach
+    void shutdownPool() {
+        pool.shutdown();
+    }
+
+    @Test
+    void properties_ReturnsPropertiesInOrder() {
+        final List<Property<? extends Component>> properties = properties(1000);
+
+        final List<Component> expected = new ArrayList<>();
+        for (final Property<? extends Component> property : properties) {
+            expected.add(sequentialText.property(property));
+        }
+
+        assertEquals(expected, sequentialText.properties(properties));
+        assertEquals(expected, parallelText.properties(properties));
+    }
+
+    @Test
+    void propertyGroups_ReturnsPropertyGroupsInOrder() {
+        final Map<String, Collection<Property<? extends Component>>> propertyGroups =
+                new LinkedHashMap<>();
+        for (int i = 0; i < 50; i++) {
+            propertyGroups.put("SERVER-" + i, properties(i));
+        }
+
+        final List<List<Component>> expected = new ArrayList<>();
+        propertyGroups.forEach((name, properties) ->
+                expected.add(sequentialText.propertyGroup(name, properties)));
+
+        assertEquals(expected, sequentialText.propertyGroups(propertyGroups));
+        assertEquals(expected, parallelText.propertyGroups(propertyGroups));
+    }
+
+    @Test
+    void properties_Fails_WhenPropertyNull() {
+        final List<Property<? extends Component>> properties = properties(10);
+        properties.set(5, null);
+
+        final Throwable thrown = assertThrows(NullPointerException.class,
+                () -> parallelText.properties(properties));
+        assertEquals("[properties[5]] cannot be null", thrown.getMessage());
+    }
+
+    @Test
+    void propertyGroup_Fails_WhenPropertyNull() {
+        final List<Property<? extends Component>> properties = properties(10);
+        properties.set(0, null);
+
+        final Throwable thrown = assertThrows(NullPointerException.class,
+                () -> sequentialText.propertyGroup("Group", properties));
+        assertEquals("[properties[0]] cannot be null", thrown.getMessage());
+
+        final Throwable streamThrown = assertThrows(NullPointerException.class,
+                () -> sequentialText.propertyGroupStream("Group", properties)
+                        .collect(Collectors.toList()));
+        assertEquals("[properties[0]] cannot be null", streamThrown.getMessage());
+    }
+
+    @Test
+    void new_Fails_WhenArgumentsInvalid() {
+        assertThrows(NullPointerException.class, () -> new AdventureText(null, 1));
+        assertThrows(IllegalArgumentException.class, () -> new AdventureText(pool, 0));
+    }
+
+    private static List<Property<? extends Component>> properties(final int size) {
+        final List<Property<? extends Component>> properties = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            properties.add(Property.of("Property " + i, Component.text(i)));
+        }
+        return properties;
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2022 OreField
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.orefield.text.adventure;
+
+import static net.orefield.text.util.ConcurrentTesting.concurrently;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import net.kyori.adventure.text.Component;
+import net.orefield.text.Category;
+import net.orefield.text.Property;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+class AdventureTextConcurrencyTest {
+
+    private static final int THREADS = 16;
+    private static final int ITERATIONS = 2_000;
+
+    private static final Category[] CATEGORIES = {
+            Category.OREFIELD, Category.CHAT, Category.DISCORD, Category.STAFF
+    };
+
+    @Test
+    void title_ReturnsSameCachedInstance_WhenCalledConcurrently() throws Exception {
+        final AdventureText text = new AdventureText();
+
+        final List<Component[]> results = concurrently(THREADS, () -> {
+            final Component[] titles = new Component[CATEGORIES.length + 1];
+            for (int i = 0; i < CATEGORIES.length; i++) {
+                titles[i] = text.title(CATEGORIES[i]);
+            }
+            titles[CATEGORIES.length] = text.title("Title");
+            return titles;
+        });
+
+        for (final Component[] titles : results) {
+            for (int i = 0; i < CATEGORIES.length; i++) {
+                assertSame(text.title(CATEGORIES[i]), titles[i]);
+            }
+            assertSame(text.title("Title"), titles[CATEGORIES.length]);
+        }
+    }
+
+    @Test
+    void render_IsConsistent_WhenCalledConcurrently() throws Exception {
+        final AdventureText text = new AdventureText();
+        final AdventureText reference = new AdventureText();
+
+        final List<Integer> mismatches = concurrently(THREADS, () -> {
+            int threadMismatches = 0;
+            for (int i = 0; i < ITERATIONS; i++) {
+                // More keys than a cache holds, so misses, inserts and full caches all interleave
+                final String key = "Key " + (i % (AdventureText.MAXIMUM_CACHE_SIZE * 2));
+                final Category category = CATEGORIES[i % CATEGORIES.length];
+                final Component value = Component.text(i);
+
+                if (!text.title(key).equals(reference.title(key))
+                        || !text.information(category, value)
+                                .equals(reference.information(category, value))
+                        || !text.property(key, value).equals(reference.property(key, value))
+                        || !text.error(value).equals(reference.error(value))
+                        || !text.propertyGroup(key,
+                                Collections.singletonList(Property.of(key, value)))
+                                .equals(reference.propertyGroup(key,
+                                        Collections.singletonList(Property.of(key, value))))) {
+                    threadMismatches++;
+                }
+            }
+            return threadMismatches;
+        });
+
+        for (final int threadMismatches : mismatches) {
+            assertEquals(0, threadMismatches);
+        }
+    }
+
+    @Test
+    void adventureText_ReturnsSameLocalizedInstance_WhenCalledConcurrently() throws Exception {
+        final List<AdventureText> texts = concurrently(
+                THREADS, () -> AdventureTexts.adventureText(Locale.FRENCH));
+
+        for (final AdventureText text : texts) {
+            assertSame(AdventureTexts.adventureText(Locale.FRENCH), text);
+        }
+    }
+}
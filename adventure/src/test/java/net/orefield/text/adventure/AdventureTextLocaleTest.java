@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2022 OreField
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.orefield.text.adventure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.TextDecoration;
+import net.orefield.text.Category;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ListResourceBundle;
+import java.util.Locale;
+import java.util.ResourceBundle;
+
+@SuppressWarnings("ConstantConditions")
+class AdventureTextLocaleTest {
+
+    @Test
+    void adventureText_ReturnsCachedInstance() {
+        assertSame(AdventureTexts.adventureText(Locale.GERMAN),
+                AdventureTexts.adventureText(Locale.GERMAN));
+        assertThrows(NullPointerException.class, () -> AdventureTexts.adventureText(null));
+    }
+
+    @Test
+    void adventureText_SharesInstance_WhenLocalesHaveSameTranslations() {
+        final AdventureText german = AdventureTexts.adventureText(Locale.GERMAN);
+
+        assertSame(german, AdventureTexts.adventureText(Locale.GERMANY));
+        for (int i = 0; i < 100; i++) {
+            assertSame(german, AdventureTexts.adventureText(new Locale("de", "X" + i)));
+        }
+        assertSame(AdventureTexts.adventureText(Locale.JAPANESE),
+                AdventureTexts.adventureText(Locale.KOREAN));
+    }
+
+    @Test
+    void withLocale_TranslatesCategoryTitles() {
+        assertEquals(
+                Component.empty()
+                        .append(
+                                Component.text("TEAM")
+                                        .color(AdventureText.ACCENT)
+                                        .decorate(TextDecoration.BOLD)
+                        ),
+                AdventureTexts.adventureText(Locale.GERMAN).title(Category.STAFF)
+        );
+        assertEquals(
+                AdventureTexts.title("SANCI\u00d3N"),
+                AdventureTexts.adventureText(new Locale("es")).title(Category.PUNISH)
+        );
+        assertEquals(
+                AdventureTexts.title("R\u00c9SEAU"),
+                AdventureTexts.adventureText(Locale.FRENCH).title(Category.NETWORK)
+        );
+        assertEquals(
+                AdventureTexts.title(Category.CHAT),
+                AdventureTexts.adventureText(Locale.FRENCH).title(Category.CHAT)
+        );
+    }
+
+    @Test
+    void withLocale_TranslatesLabels() {
+        final AdventureText german = AdventureTexts.adventureText(Locale.GERMANY);
+
+        assertEquals(
+                Component.text("Fehler: ", AdventureText.ERROR)
+                        .append(Component.text("Spieler nicht gefunden.")),
+                german.error(Component.text("Spieler nicht gefunden."))
+        );
+        assertEquals(
+                Component.text("Warnung: ", AdventureText.WARNING)
+                        .append(Component.text("Achtung")),
+                german.warning(Component.text("Achtung"))
+        );
+    }
+
+    @Test
+    void withLocale_FallsBackToDefaultLabels() {
+        final AdventureText text = AdventureTexts.adventureText(Locale.JAPANESE);
+
+        assertEquals(AdventureTexts.error(Component.text("Oops")),
+                text.error(Component.text("Oops")));
+        assertEquals(AdventureTexts.information(Category.CHAT, Component.text("Hello")),
+                text.information(Category.CHAT, Component.text("Hello")));
+        assertEquals(AdventureTexts.title(Category.CHAT), text.title(Category.CHAT));
+    }
+
+    @Test
+    void withMessages_TranslatesCategoriesAndSeparator() {
+        final ResourceBundle bundle = new ListResourceBundle() {
+            @Override
+            protected Object[][] getContents() {
+                return new Object[][] {
+                        {"separator", "\u2190 "},
+                        {"category.CHAT", "DISCUSSION"}
+                };
+            }
+        };
+
+        final AdventureText text = AdventureTexts.adventureText().withMessages(bundle);
+
+        assertEquals(
+                Component.empty()
+                        .append(
+                                Component.text("DISCUSSION")
+                                        .color(AdventureText.ACCENT)
+                                        .decorate(TextDecoration.BOLD)
+                        ),
+                text.title(Category.CHAT)
+        );
+        assertEquals(
+                Component.empty()
+                        .append(
+                                Component.text("DISCUSSION ")
+                                        .color(AdventureText.MAIN)
+                                        .decorate(TextDecoration.BOLD)
+                        )
+                        .append(Component.text("\u2190 ", AdventureText.DARK_GRAY))
+                        .append(Component.text("Bonjour")),
+                text.information(Category.CHAT, Component.text("Bonjour"))
+        );
+        assertEquals(AdventureTexts.error(Component.text("Oops")),
+                text.error(Component.text("Oops")));
+    }
+}
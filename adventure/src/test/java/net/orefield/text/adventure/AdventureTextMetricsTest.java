@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2022 OreField
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.orefield.text.adventure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import net.kyori.adventure.text.Component;
+import net.orefield.text.Category;
+import net.orefield.text.metrics.TextMethod;
+import net.orefield.text.metrics.TextMetrics;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+class AdventureTextMetricsTest {
+
+    @Test
+    void cacheLookups_AreRecorded() {
+        final List<String> lookups = new ArrayList<>();
+        final AdventureText text = new AdventureText(
+                ForkJoinPool.commonPool(),
+                AdventureText.DEFAULT_PARALLELISM_THRESHOLD,
+                new TextMetrics() {
+                    @Override
+                    public void recordCall(final @NotNull TextMethod method,
+                            final @Nullable Category category,
+                            final long durationNanos) {
+                    }
+
+                    @Override
+                    public void recordCacheLookup(final @NotNull String cacheName,
+                            final @Nullable Category category,
+                            final boolean hit) {
+                        lookups.add(cacheName + " "
+                                + (category == null ? null : category.getName()) + " "
+                                + (hit ? "hit" : "miss"));
+                    }
+                }
+        );
+        lookups.clear();
+
+        text.information(Category.CHAT, Component.text("Hello"));
+        text.information(Category.CHAT, Component.text("Hello"));
+        text.title(Category.STAFF);
+        text.property("Name", Component.text("overlapse"));
+
+        assertEquals(
+                Arrays.asList(
+                        "information-prefix CHAT miss",
+                        "information-prefix CHAT hit",
+                        "category-title STAFF miss",
+                        "property-prefix null miss"
+                ),
+                lookups
+        );
+    }
+}
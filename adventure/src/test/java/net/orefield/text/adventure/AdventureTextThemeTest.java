@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2022 OreField
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.orefield.text.adventure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.TextDecoration;
+import net.orefield.text.Category;
+import net.orefield.text.Property;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Locale;
+
+@SuppressWarnings("ConstantConditions")
+class AdventureTextThemeTest {
+
+    private static final Theme THEME = Theme.DEFAULT
+            .withMain(NamedTextColor.DARK_PURPLE)
+            .withAccent(NamedTextColor.LIGHT_PURPLE)
+            .withGray(NamedTextColor.WHITE)
+            .withDarkGray(NamedTextColor.BLACK)
+            .withCallToAction(NamedTextColor.AQUA)
+            .withError(NamedTextColor.DARK_RED)
+            .withWarning(NamedTextColor.GOLD);
+
+    private final AdventureText text = AdventureTexts.adventureText().withTheme(THEME);
+
+    @Test
+    void with_ReplacesOnlyOneColor() {
+        final Theme theme = Theme.DEFAULT.withMain(NamedTextColor.RED);
+
+        assertEquals(NamedTextColor.RED, theme.main());
+        assertEquals(AdventureText.MAIN, Theme.DEFAULT.main());
+        assertEquals(AdventureText.ACCENT, theme.accent());
+        assertEquals(AdventureText.GRAY, theme.gray());
+        assertEquals(AdventureText.DARK_GRAY, theme.darkGray());
+        assertEquals(AdventureText.CALL_TO_ACTION, theme.callToAction());
+        assertEquals(AdventureText.ERROR, theme.error());
+        assertEquals(AdventureText.WARNING, theme.warning());
+        assertThrows(NullPointerException.class, () -> Theme.DEFAULT.withMain(null));
+    }
+
+    @Test
+    void withTheme_ThrowsNullPointerException_WhenThemeIsNull() {
+        assertThrows(NullPointerException.class, () -> text.withTheme(null));
+    }
+
+    @Test
+    void withTheme_DefaultTheme_RendersLikeDefaultText() {
+        final AdventureText text = AdventureTexts.adventureText().withTheme(Theme.DEFAULT);
+
+        assertEquals(AdventureTexts.orefield(), text.orefield());
+        assertEquals(AdventureTexts.information(Category.CHAT, Component.text("Hello")),
+                text.information(Category.CHAT, Component.text("Hello")));
+        assertEquals(AdventureTexts.callToAction(Component.text("Click")),
+                text.callToAction(Component.text("Click")));
+        assertEquals(
+                AdventureTexts.propertyGroup("Group",
+                        Collections.singletonList(Property.of("Name", Component.text("Value")))),
+                text.propertyGroup("Group",
+                        Collections.singletonList(Property.of("Name", Component.text("Value")))));
+    }
+
+    @Test
+    void withTheme_RendersWithThemeColors() {
+        assertEquals(
+                Component.empty()
+                        .append(Component.text("Title", NamedTextColor.LIGHT_PURPLE,
+                                TextDecoration.BOLD)),
+                text.title("Title")
+        );
+        assertEquals(
+                Component.empty()
+                        .append(Component.text("CHAT ", NamedTextColor.DARK_PURPLE,
+                                TextDecoration.BOLD))
+                        .append(Component.text(AdventureText.SEPARATOR + " ",
+                                NamedTextColor.BLACK))
+                        .append(Component.text("Hello")),
+                text.information(Category.CHAT, Component.text("Hello"))
+        );
+        assertEquals(
+                Component.text("Error: ", NamedTextColor.DARK_RED)
+                        .append(Component.text("Oops")),
+                text.error(Component.text("Oops"))
+        );
+        assertEquals(
+                Component.text("Warning: ", NamedTextColor.GOLD)
+                        .append(Component.text("Careful")),
+                text.warning(Component.text("Careful"))
+        );
+        assertEquals(
+                Component.text("Click", NamedTextColor.AQUA, TextDecoration.BOLD),
+                text.callToAction(Component.text("Click"))
+        );
+        assertEquals(
+                Arrays.asList(
+                        Component.text("Group", NamedTextColor.LIGHT_PURPLE, TextDecoration.BOLD),
+                        AdventureText.INDENT_COMPONENT.append(
+                                Component.empty()
+                                        .append(Component.text("Name: ", NamedTextColor.WHITE))
+                                        .append(Component.text("Value"))
+                        )
+                ),
+                text.propertyGroup("Group",
+                        Collections.singletonList(Property.of("Name", Component.text("Value"))))
+        );
+    }
+
+    @Test
+    void withTheme_CachesComponentsPerText() {
+        assertSame(text.title("Title"), text.title("Title"));
+        assertEquals(THEME, text.getTheme());
+        assertEquals(Theme.DEFAULT, AdventureTexts.adventureText().getTheme());
+    }
+
+    @Test
+    void withLocale_KeepsTheme() {
+        final AdventureText german = text.withLocale(Locale.GERMAN);
+
+        assertSame(THEME, german.getTheme());
+        assertEquals(
+                Component.text("Fehler: ", NamedTextColor.DARK_RED)
+                        .append(Component.text("Oops")),
+                german.error(Component.text("Oops"))
+        );
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2022 OreField
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.orefield.text.adventure;
+
+import net.kyori.adventure.text.Component;
+import net.orefield.text.Category;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(AllocationTrackingExtension.class)
+class AdventureTextsAllocationTest {
+
+    private static final Component MESSAGE = Component.text("message");
+
+    @Test
+    void orefield_AllocatesNothing(final AllocationTracker allocations) {
+        allocations.assertAllocatesAtMost(0, AdventureTexts::orefield);
+    }
+
+    @Test
+    void title_AllocatesNothing_WhenCached(final AllocationTracker allocations) {
+        allocations.assertAllocatesAtMost(0, () -> AdventureTexts.title(Category.STAFF));
+        allocations.assertAllocatesAtMost(0, () -> AdventureTexts.title("SERVER"));
+    }
+
+    @Test
+    void information_StaysWithinBudget(final AllocationTracker allocations) {
+        allocations.assertAllocatesAtMost(256,
+                () -> AdventureTexts.information(Category.STAFF, MESSAGE));
+    }
+
+    @Test
+    void errorAndWarning_StayWithinBudget(final AllocationTracker allocations) {
+        allocations.assertAllocatesAtMost(160, () -> AdventureTexts.error(MESSAGE));
+        allocations.assertAllocatesAtMost(160, () -> AdventureTexts.warning(MESSAGE));
+    }
+
+    @Test
+    void callToAction_StaysWithinBudget(final AllocationTracker allocations) {
+        allocations.assertAllocatesAtMost(64, () -> AdventureTexts.callToAction(MESSAGE));
+    }
+
+    @Test
+    void property_StaysWithinBudget(final AllocationTracker allocations) {
+        allocations.assertAllocatesAtMost(256, () -> AdventureTexts.property("Name", MESSAGE));
+        allocations.assertAllocatesAtMost(256, () -> AdventureTexts.property("Name", 42L));
+        allocations.assertAllocatesAtMost(320, () -> AdventureTexts.property("Name", 4.5));
+    }
+}
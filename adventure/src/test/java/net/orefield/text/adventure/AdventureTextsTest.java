@@ -24,17 +24,26 @@ package net.orefield.text.adventure;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.Style;
 import net.kyori.adventure.text.format.TextDecoration;
 import net.orefield.text.Category;
 import net.orefield.text.Property;
+import net.orefield.text.PropertyGroup;
 
 import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.stream.Collectors;
 
+@SuppressWarnings("ConstantConditions")
 class AdventureTextsTest {
 
     @Test
@@ -67,6 +76,15 @@ class AdventureTextsTest {
         );
     }
 
+    @Test
+    void title_ReturnsSameInstance() {
+        assertSame(AdventureTexts.title("SERVER"), AdventureTexts.title("SERVER"));
+        assertSame(AdventureTexts.title(Category.STAFF), AdventureTexts.title(Category.STAFF));
+        assertSame(AdventureTexts.title(Category.of("SKYBLOCK", "SKYBLOCK")),
+                AdventureTexts.title(Category.of("SKYBLOCK", "SKYBLOCK")));
+        assertSame(AdventureTexts.title("OREFIELD"), AdventureTexts.orefield());
+    }
+
     @Test
     void orefield_ReturnsOrefieldTitle() {
         final Component orefield = AdventureTexts.orefield();
@@ -94,7 +112,8 @@ class AdventureTextsTest {
                                         .color(AdventureText.MAIN)
                                         .decorate(TextDecoration.BOLD)
                         )
-                        .append(AdventureText.SEPARATOR_COMPONENT)
+                        .append(Component.text(AdventureText.SEPARATOR + " ",
+                                Theme.DEFAULT.darkGray()))
                         .append(Component.text("Hello, world!")),
                 information
         );
@@ -105,7 +124,7 @@ class AdventureTextsTest {
         final Component error = AdventureTexts.error(Component.text("Player not found."));
 
         assertEquals(
-                AdventureText.ERROR_COMPONENT
+                Component.text("Error: ", Theme.DEFAULT.error())
                         .append(Component.text("Player not found.")),
                 error
         );
@@ -117,7 +136,7 @@ class AdventureTextsTest {
                 Component.text("Unable to teleport 2/10 players."));
 
         assertEquals(
-                AdventureText.WARNING_COMPONENT
+                Component.text("Warning: ", Theme.DEFAULT.warning())
                         .append(Component.text("Unable to teleport 2/10 players.")),
                 warning
         );
@@ -129,7 +148,7 @@ class AdventureTextsTest {
 
         assertEquals(
                 Component.text("CLICK HERE")
-                        .style(AdventureText.CALL_TO_ACTION_STYLE),
+                        .style(Style.style(Theme.DEFAULT.callToAction(), TextDecoration.BOLD)),
                 callToAction
         );
     }
@@ -154,6 +173,46 @@ class AdventureTextsTest {
         );
     }
 
+    @Test
+    void property_Fails_WhenArgumentsNull() {
+        assertThrows(NullPointerException.class,
+                () -> AdventureTexts.property(null, Component.text("overlapse")));
+        assertThrows(NullPointerException.class,
+                () -> AdventureTexts.property("Name", null));
+        assertThrows(NullPointerException.class,
+                () -> AdventureTexts.property(null));
+    }
+
+    @Test
+    void property_RendersNumbers() {
+        assertEquals(Component.text("20"), AdventureTexts.adventureText().propertyValue("20"));
+        assertEquals(AdventureTexts.property("Players", Component.text("20")),
+                AdventureTexts.property("Players", 20));
+        assertEquals(AdventureTexts.property("Players", Component.text("-1")),
+                AdventureTexts.property("Players", -1));
+        assertEquals(AdventureTexts.property("Balance", Component.text("9000000000")),
+                AdventureTexts.property("Balance", 9_000_000_000L));
+        assertEquals(AdventureTexts.property("TPS", Component.text("20.0")),
+                AdventureTexts.property("TPS", 20.0));
+        assertEquals(AdventureTexts.property("TPS", Component.text("19.5")),
+                AdventureTexts.property("TPS", 19.5));
+        assertEquals(AdventureTexts.property("TPS", Component.text("-0.0")),
+                AdventureTexts.property("TPS", -0.0));
+        assertEquals(AdventureTexts.property("TPS", Component.text("NaN")),
+                AdventureTexts.property("TPS", Double.NaN));
+        assertThrows(NullPointerException.class, () -> AdventureTexts.property(null, 20));
+    }
+
+    @Test
+    void property_ReusesValueComponents_WhenNumberIsSmall() {
+        final int small = AdventureText.MAXIMUM_CACHED_NUMBER;
+
+        assertSame(AdventureTexts.property("Players", small).children().get(1),
+                AdventureTexts.property("Ping", small).children().get(1));
+        assertSame(AdventureTexts.property("TPS", 20.0).children().get(1),
+                AdventureTexts.property("TPS", 20.0).children().get(1));
+    }
+
     @Test
     void propertyGroup_ReturnsPropertyGroup() {
         final List<Component> propertyGroup = AdventureTexts.propertyGroup(
@@ -187,4 +246,99 @@ class AdventureTextsTest {
                 propertyGroup
         );
     }
+
+    @Test
+    void propertyGroup_RendersColumnarGroupLikeCollection() {
+        final PropertyGroup<Component> propertyGroup = PropertyGroup.<Component>builder("SERVER")
+                .add("TPS", Component.text("20"))
+                .add("Players", Component.text("53/100"))
+                .build();
+
+        assertEquals(
+                AdventureTexts.propertyGroup(
+                        "SERVER",
+                        Arrays.asList(
+                                Property.of("TPS", Component.text("20")),
+                                Property.of("Players", Component.text("53/100"))
+                        )
+                ),
+                AdventureTexts.propertyGroup(propertyGroup)
+        );
+        assertEquals(
+                AdventureTexts.propertyGroup("SERVER", Collections.emptyList()),
+                AdventureTexts.propertyGroup(PropertyGroup.<Component>builder("SERVER").build())
+        );
+        assertThrows(NullPointerException.class,
+                () -> AdventureTexts.propertyGroup((PropertyGroup<Component>) null));
+    }
+
+    @Test
+    void propertyGroupStream_ReturnsPropertyGroupLines() {
+        final List<Property<? extends Component>> properties = Arrays.asList(
+                Property.of("TPS", Component.text("20")),
+                Property.of("Players", Component.text("53/100"))
+        );
+
+        assertEquals(
+                AdventureTexts.propertyGroup("SERVER", properties),
+                AdventureTexts.propertyGroupStream("SERVER", properties)
+                        .collect(Collectors.toList())
+        );
+        assertEquals(
+                AdventureTexts.propertyGroup("SERVER", Collections.emptyList()),
+                AdventureTexts.propertyGroupStream("SERVER", Collections.emptyList())
+                        .collect(Collectors.toList())
+        );
+    }
+
+    @Test
+    void propertyGroupStream_RendersLazily() {
+        final List<Property<? extends Component>> properties = Arrays.asList(
+                Property.of("TPS", Component.text("20")),
+                null
+        );
+
+        assertEquals(
+                AdventureTexts.propertyGroup("SERVER", properties.subList(0, 1)),
+                AdventureTexts.propertyGroupStream("SERVER", properties)
+                        .limit(2)
+                        .collect(Collectors.toList())
+        );
+    }
+
+    @Test
+    void propertyGroupPage_ReturnsPage() {
+        final List<Property<? extends Component>> properties = Arrays.asList(
+                Property.of("TPS", Component.text("20")),
+                Property.of("Players", Component.text("53/100")),
+                Property.of("Memory", Component.text("4/8 GB"))
+        );
+        final Collection<Property<? extends Component>> propertySet =
+                new LinkedHashSet<>(properties);
+
+        assertEquals(
+                AdventureTexts.propertyGroup("SERVER", properties.subList(0, 2)),
+                AdventureTexts.propertyGroupPage("SERVER", properties, 0, 2)
+        );
+        assertEquals(
+                AdventureTexts.propertyGroup("SERVER", properties.subList(2, 3)),
+                AdventureTexts.propertyGroupPage("SERVER", properties, 1, 2)
+        );
+        assertEquals(
+                AdventureTexts.propertyGroup("SERVER", properties.subList(2, 3)),
+                AdventureTexts.propertyGroupPage("SERVER", propertySet, 1, 2)
+        );
+        assertEquals(
+                AdventureTexts.propertyGroup("SERVER", Collections.emptyList()),
+                AdventureTexts.propertyGroupPage("SERVER", properties, 5, 2)
+        );
+    }
+
+    @Test
+    void propertyGroupPage_Fails_WhenPageInvalid() {
+        assertThrows(IllegalArgumentException.class,
+                () -> AdventureTexts.propertyGroupPage("SERVER", Collections.emptyList(), -1, 2));
+        assertThrows(IllegalArgumentException.class,
+                () -> AdventureTexts.propertyGroupPage("SERVER", Collections.emptyList(), 0, 0));
+    }
 }
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2022 OreField
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.orefield.text.adventure;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.Supplier;
+
+/**
+ * Measures the bytes allocated per call by the current thread, using
+ * {@link com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long)}.
+ * <p>
+ * Calls are warmed up before they are measured, so lazily filled caches are populated and the JIT
+ * has compiled the call. The smallest average of several measured rounds is reported, so
+ * one-off allocations, like class loading, don't count.
+ * <p>
+ * Obtained by declaring a parameter in a test extended with {@link AllocationTrackingExtension}.
+ *
+ * @author Sparky983
+ */
+final class AllocationTracker {
+
+    private static final int WARMUP_CALLS = 20_000;
+    private static final int MEASURED_CALLS = 10_000;
+    private static final int ROUNDS = 5;
+
+    private final com.sun.management.ThreadMXBean threads;
+
+    /**
+     * Prevents the results of measured calls from being eliminated.
+     */
+    private volatile Object blackhole;
+
+    /**
+     * Constructs a new {@code AllocationTracker}.
+     *
+     * @author Sparky983
+     * @param threads The thread bean allocations are measured with.
+     */
+    AllocationTracker(final @NotNull com.sun.management.ThreadMXBean threads) {
+        this.threads = threads;
+    }
+
+    /**
+     * Returns the thread bean allocations are measured with, or {@code null} if the JVM cannot
+     * measure allocations.
+     *
+     * @author Sparky983
+     * @return The thread bean or {@code null}.
+     */
+    static com.sun.management.ThreadMXBean threadBean() {
+        final java.lang.management.ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (!(threads instanceof com.sun.management.ThreadMXBean)) {
+            return null;
+        }
+        final com.sun.management.ThreadMXBean allocationThreads =
+                (com.sun.management.ThreadMXBean) threads;
+        if (!allocationThreads.isThreadAllocatedMemorySupported()) {
+            return null;
+        }
+        allocationThreads.setThreadAllocatedMemoryEnabled(true);
+        return allocationThreads;
+    }
+
+    /**
+     * Returns the bytes allocated per call of the specified {@code call}.
+     *
+     * @author Sparky983
+     * @param call The call.
+     * @return The bytes allocated per call.
+     */
+    long bytesPerCall(final @NotNull Supplier<?> call) {
+        final long threadId = Thread.currentThread().getId();
+
+        for (int i = 0; i < WARMUP_CALLS; i++) {
+            blackhole = call.get();
+        }
+
+        long minimum = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            final long before = threads.getThreadAllocatedBytes(threadId);
+            for (int i = 0; i < MEASURED_CALLS; i++) {
+                blackhole = call.get();
+            }
+            final long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+            minimum = Math.min(minimum, allocated / MEASURED_CALLS);
+        }
+        return minimum;
+    }
+
+    /**
+     * Asserts that the specified {@code call} allocates at most {@code budget} bytes per call.
+     *
+     * @author Sparky983
+     * @param budget The maximum bytes allocated per call.
+     * @param call The call.
+     */
+    void assertAllocatesAtMost(final long budget, final @NotNull Supplier<?> call) {
+        final long bytes = bytesPerCall(call);
+        assertTrue(bytes <= budget,
+                () -> "Expected at most " + budget + " bytes per call, but allocated " + bytes);
+    }
+}
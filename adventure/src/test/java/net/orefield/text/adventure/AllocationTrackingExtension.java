@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2022 OreField
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.orefield.text.adventure;
+
+import org.junit.jupiter.api.extension.ConditionEvaluationResult;
+import org.junit.jupiter.api.extension.ExecutionCondition;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolver;
+
+/**
+ * Provides {@link AllocationTracker} parameters to tests, and disables them when the JVM cannot
+ * measure per-thread allocations.
+ * <pre>
+ * &#64;ExtendWith(AllocationTrackingExtension.class)
+ * class ExampleTest {
+ *
+ *     &#64;Test
+ *     void orefield_AllocatesNothing(AllocationTracker allocations) {
+ *         allocations.assertAllocatesAtMost(0, AdventureTexts::orefield);
+ *     }
+ * }
+ * </pre>
+ *
+ * @author Sparky983
+ */
+final class AllocationTrackingExtension implements ExecutionCondition, ParameterResolver {
+
+    @Override
+    public ConditionEvaluationResult evaluateExecutionCondition(
+            final ExtensionContext context) {
+        if (AllocationTracker.threadBean() == null) {
+            return ConditionEvaluationResult.disabled(
+                    "Thread allocation measurement is unsupported");
+        }
+        return ConditionEvaluationResult.enabled("Thread allocation measurement is supported");
+    }
+
+    @Override
+    public boolean supportsParameter(final ParameterContext parameterContext,
+            final ExtensionContext extensionContext) {
+        return parameterContext.getParameter().getType() == AllocationTracker.class;
+    }
+
+    @Override
+    public Object resolveParameter(final ParameterContext parameterContext,
+            final ExtensionContext extensionContext) {
+        return new AllocationTracker(AllocationTracker.threadBean());
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2022 OreField
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.orefield.text.adventure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.orefield.text.Category;
+import net.orefield.text.Property;
+import net.orefield.text.Text;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+@SuppressWarnings("ConstantConditions")
+class ComponentInternerTest {
+
+    @Test
+    void constructor_ThrowsIllegalArgumentException_WhenMaximumSizeIsNegative() {
+        assertThrows(IllegalArgumentException.class, () -> new ComponentInterner(-1));
+    }
+
+    @Test
+    void intern_ThrowsNullPointerException_WhenComponentIsNull() {
+        assertThrows(NullPointerException.class, () -> new ComponentInterner().intern(null));
+    }
+
+    @Test
+    void intern_ReturnsCanonicalInstance_WhenComponentsAreEqual() {
+        final ComponentInterner interner = new ComponentInterner();
+        final Component first = Component.text("Sparky983", NamedTextColor.GOLD);
+        final Component second = Component.text("Sparky983", NamedTextColor.GOLD);
+
+        assertNotSame(first, second);
+        assertSame(first, interner.intern(first));
+        assertSame(first, interner.intern(second));
+    }
+
+    @Test
+    void intern_SharesEqualSubtrees() {
+        final ComponentInterner interner = new ComponentInterner();
+
+        final Component first = interner.intern(Component.text("Kicked ")
+                .append(Component.text("Sparky983", NamedTextColor.GOLD)));
+        final Component second = interner.intern(Component.text("Banned ")
+                .append(Component.text("Sparky983", NamedTextColor.GOLD)));
+
+        assertEquals(Component.text("Banned ")
+                .append(Component.text("Sparky983", NamedTextColor.GOLD)), second);
+        assertSame(first.children().get(0), second.children().get(0));
+    }
+
+    @Test
+    void intern_DoesNotHoldMoreThanMaximumSize() {
+        final ComponentInterner interner = new ComponentInterner(1);
+        final Component first = Component.text("First");
+        final Component second = Component.text("Second");
+
+        interner.intern(first);
+        assertSame(second, interner.intern(second));
+        assertNotSame(second, interner.intern(Component.text("Second")));
+        assertEquals(1, interner.size());
+    }
+
+    @Test
+    void wrap_ThrowsNullPointerException_WhenArgumentsAreNull() {
+        assertThrows(NullPointerException.class,
+                () -> InterningText.wrap(null, new ComponentInterner()));
+        assertThrows(NullPointerException.class,
+                () -> InterningText.wrap(AdventureTexts.adventureText(), null));
+    }
+
+    @Test
+    void wrap_InternsRenderedMessages() {
+        final Text<Component> text = InterningText.wrap(AdventureTexts.adventureText(),
+                new ComponentInterner());
+
+        final Component first = text.information(Category.CHAT, Component.text("Hello"));
+        final Component second = text.information(Category.CHAT, Component.text("Hello"));
+
+        assertEquals(AdventureTexts.information(Category.CHAT, Component.text("Hello")), first);
+        assertSame(first, second);
+    }
+
+    @Test
+    void wrap_InternsEveryLineOfPropertyGroups() {
+        final Text<Component> text = InterningText.wrap(AdventureTexts.adventureText(),
+                new ComponentInterner());
+        final List<Property<? extends Component>> properties = Arrays.asList(
+                Property.of("Name", Component.text("Sparky983")),
+                Property.of("Rank", Component.text("Owner")));
+
+        final List<Component> first = text.propertyGroup("Player", properties);
+        final List<Component> second = text.propertyGroup("Player", properties);
+
+        assertEquals(AdventureTexts.propertyGroup("Player", properties), first);
+        for (int i = 0; i < first.size(); i++) {
+            assertSame(first.get(i), second.get(i));
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2022 OreField
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.orefield.text.adventure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import net.kyori.adventure.text.Component;
+import net.orefield.text.Property;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+
+@SuppressWarnings("ConstantConditions")
+class LivePropertyGroupTest {
+
+    private final LivePropertyGroup group =
+            AdventureTexts.adventureText().livePropertyGroup("Server");
+
+    private static List<Property<? extends Component>> properties(final String tps,
+            final String players) {
+        return Arrays.asList(
+                Property.of("TPS", Component.text(tps)),
+                Property.of("Players", Component.text(players)));
+    }
+
+    private static BitSet bits(final int... indexes) {
+        final BitSet bits = new BitSet();
+        for (final int index : indexes) {
+            bits.set(index);
+        }
+        return bits;
+    }
+
+    @Test
+    void livePropertyGroup_ThrowsNullPointerException_WhenNameIsNull() {
+        assertThrows(NullPointerException.class,
+                () -> AdventureTexts.adventureText().livePropertyGroup(null));
+    }
+
+    @Test
+    void update_ThrowsNullPointerException_WhenPropertiesAreNull() {
+        assertThrows(NullPointerException.class, () -> group.update(null));
+        assertThrows(NullPointerException.class,
+                () -> group.update(Collections.singletonList(null)));
+    }
+
+    @Test
+    void update_LeavesGroupUnchanged_WhenElementIsNull() {
+        group.update(properties("20.0", "5"));
+        final List<Component> lines = new ArrayList<>(group.lines());
+
+        assertThrows(NullPointerException.class, () -> group.update(Arrays.asList(
+                Property.of("TPS", Component.text("19.0")),
+                null)));
+
+        assertEquals(lines, group.lines());
+        assertEquals(bits(1), group.update(properties("19.0", "5")));
+    }
+
+    @Test
+    void update_RendersLikePropertyGroup() {
+        assertEquals(1, group.size());
+
+        assertEquals(bits(1, 2), group.update(properties("20.0", "5")));
+
+        assertEquals(AdventureTexts.propertyGroup("Server", properties("20.0", "5")),
+                group.lines());
+    }
+
+    @Test
+    void update_RebuildsOnlyChangedLines() {
+        group.update(properties("20.0", "5"));
+        final Component header = group.lines().get(0);
+        final Component players = group.lines().get(2);
+
+        assertTrue(group.update(properties("20.0", "5")).isEmpty());
+        assertEquals(bits(1), group.update(properties("19.5", "5")));
+
+        assertSame(header, group.lines().get(0));
+        assertSame(players, group.lines().get(2));
+        assertEquals(AdventureTexts.propertyGroup("Server", properties("19.5", "5")),
+                group.lines());
+    }
+
+    @Test
+    void update_RemovesLines_WhenThereAreFewerProperties() {
+        group.update(properties("20.0", "5"));
+
+        final BitSet dirty = group.update(
+                Collections.singletonList(Property.of("Players", Component.text("5"))));
+
+        assertEquals(bits(1), dirty);
+        assertEquals(2, group.size());
+        assertEquals(
+                AdventureTexts.propertyGroup("Server",
+                        Collections.singletonList(Property.of("Players", Component.text("5")))),
+                group.lines());
+    }
+}
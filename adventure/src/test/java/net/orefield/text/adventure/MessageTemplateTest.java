@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2022 OreField
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.orefield.text.adventure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import net.kyori.adventure.text.Component;
+import net.orefield.text.Category;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+@SuppressWarnings("ConstantConditions")
+class MessageTemplateTest {
+
+    private final AdventureText text = AdventureTexts.adventureText();
+
+    @Test
+    void compile_ParsesPlaceholders() {
+        final MessageTemplate template = MessageTemplate.compile(
+                "<player> was banned for <reason> by <player>, 1 < 2 <not valid> <>");
+
+        assertEquals(Arrays.asList("player", "reason"), template.placeholders());
+    }
+
+    @Test
+    void render_ReturnsRenderedMessage() {
+        final MessageTemplate template = MessageTemplate.information(text, Category.PUNISH,
+                "<player> was banned for <reason>");
+
+        final Component message = template.render(
+                Component.text("overlapse"),
+                Component.text("hacking"));
+
+        assertEquals(
+                text.information(
+                        Category.PUNISH,
+                        Component.text()
+                                .append(Component.text("overlapse"))
+                                .append(Component.text(" was banned for "))
+                                .append(Component.text("hacking"))
+                                .build()
+                ),
+                message
+        );
+    }
+
+    @Test
+    void render_ReturnsRenderedMessage_WhenValuesMapped() {
+        final MessageTemplate template = MessageTemplate.error(text, "<player> is offline.");
+        final Map<String, Component> values = new HashMap<>();
+        values.put("player", Component.text("overlapse"));
+
+        assertEquals(
+                template.render(Component.text("overlapse")),
+                template.render(values)
+        );
+        assertEquals(
+                text.error(
+                        Component.text()
+                                .append(Component.text("overlapse"))
+                                .append(Component.text(" is offline."))
+                                .build()
+                ),
+                template.render(values)
+        );
+    }
+
+    @Test
+    void render_ReturnsShapedMessage() {
+        final Component value = Component.text("hub-1");
+
+        assertEquals(
+                text.warning(Component.text().append(value).build()),
+                MessageTemplate.warning(text, "<server>").render(value)
+        );
+        assertEquals(
+                text.callToAction(Component.text().append(value).build()),
+                MessageTemplate.callToAction(text, "<server>").render(value)
+        );
+        assertEquals(
+                text.property("Server", Component.text().append(value).build()),
+                MessageTemplate.property(text, "Server", "<server>").render(value)
+        );
+    }
+
+    @Test
+    void render_ReturnsSameInstance_WhenNoPlaceholders() {
+        final MessageTemplate template = MessageTemplate.information(text, Category.NETWORK,
+                "The proxy is restarting.");
+
+        assertSame(template.render(), template.render());
+        assertSame(template.render(), template.render(Collections.emptyMap()));
+    }
+
+    @Test
+    void render_Fails_WhenValuesInvalid() {
+        final MessageTemplate template = MessageTemplate.compile("<player> joined <server>");
+
+        assertThrows(IllegalArgumentException.class,
+                () -> template.render(Component.text("overlapse")));
+        assertThrows(NullPointerException.class,
+                () -> template.render(Component.text("overlapse"), null));
+        assertThrows(IllegalArgumentException.class,
+                () -> template.render(Collections.singletonMap("player",
+                        Component.text("overlapse"))));
+    }
+}
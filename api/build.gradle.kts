@@ -22,4 +22,14 @@
 
 plugins {
     id("orefield-text.java-conventions")
+    `java-test-fixtures`
 }
+
+dependencies {
+    testFixturesImplementation(libs.javaAnnotations)
+}
+
+// Test fixtures are shared with the tests of other modules, not published
+val javaComponent = components["java"] as AdhocComponentWithVariants
+javaComponent.withVariantsFromConfiguration(configurations["testFixturesApiElements"]) { skip() }
+javaComponent.withVariantsFromConfiguration(configurations["testFixturesRuntimeElements"]) { skip() }
@@ -87,19 +87,29 @@ public interface Category {
     @NotNull Category OREFIELD = of("OREFIELD", "OREFIELD");
 
     /**
-     * Returns a new category with the specified {@code name} and {@code userFriendlyName}.
+     * Returns the category with the specified {@code name} and {@code userFriendlyName}.
+     * <p>
+     * Categories are interned by the {@link CategoryRegistry}, so calling this method with the
+     * same arguments always returns the same instance. If a category with the specified
+     * {@code name} is already registered with a different {@code friendlyName}, a new category
+     * that isn't registered is returned.
+     * <p>
+     * Otherwise a category with a new {@code name} is registered, and stays registered for the
+     * lifetime of the JVM. Don't create categories with names from unbounded sources, such as
+     * player input; look them up with {@link CategoryRegistry#get(String)} instead.
      *
      * @author Sparky983
      * @param name The name.
      * @param friendlyName The user-friendly name. This is used for {@link #toString()}.
      * @throws NullPointerException if {@code name} or {@code userFriendlyName} are {@code null}.
-     * @return The new category.
+     * @return The category.
+     * @see CategoryRegistry#register(String, String)
      * @since 1.0.0
      */
-    @Contract(value = "_, _ -> new", pure = true)
+    @Contract(pure = true)
     static @NotNull Category of(final @NonNls @NotNull String name,
             final @Nls(capitalization = Title) @NotNull String friendlyName) {
-        return new CategoryImpl(name, friendlyName);
+        return CategoryRegistry.of(name, friendlyName);
     }
 
     /**
@@ -118,6 +128,24 @@ public interface Category {
     @NotNull
     String getName();
 
+    /**
+     * The ordinal of the category.
+     * <p>
+     * Ordinals are assigned by the {@link CategoryRegistry} in registration order, starting at
+     * {@code 0}, and are always less than {@link CategoryRegistry#size()}.
+     * <p>
+     * The default implementation returns {@code -1}, as categories not created by
+     * {@link #of(String, String)} aren't registered.
+     *
+     * @author Sparky983
+     * @return The ordinal, or {@code -1} if this category isn't registered.
+     * @since 1.0.3
+     */
+    @Contract(pure = true)
+    default int getOrdinal() {
+        return -1;
+    }
+
     /**
      * A human-readable name of the category.
      *
@@ -34,53 +34,77 @@ import org.jetbrains.annotations.Nullable;
 
 /**
  * Implementation of {@link Category}.
+ * <p>
+ * Registered instances are interned by the {@link CategoryRegistry}, so their equality is
+ * identity based. Unregistered instances are equal to unregistered instances with the same name
+ * and friendly name.
  *
  * @author Sparky983
  */
-class CategoryImpl implements Category {
+final class CategoryImpl implements Category {
+
+    /**
+     * The ordinal of categories that aren't registered.
+     */
+    static final int UNREGISTERED = -1;
 
     private final String name;
     private final String friendlyName;
+    private final int ordinal;
 
     /**
-     * Constructs a new {@code CategoryImpl} with the specified {@code name} and
-     * {@code friendlyName}.
+     * Constructs a new {@code CategoryImpl} with the specified {@code name},
+     * {@code friendlyName} and {@code ordinal}.
+     * <p>
+     * This should only be called by the {@link CategoryRegistry}. Categories that aren't
+     * registered have the {@link #UNREGISTERED} ordinal.
      *
      * @author Sparky983
      * @param name The name.
      * @param friendlyName The friendly name.
+     * @param ordinal The ordinal.
      * @throws NullPointerException if {@code name} or {@code friendlyName} are {@code null}.
      */
     @Contract(pure = true)
     CategoryImpl(final @NonNls @NotNull String name,
-            final @Nls(capitalization = Title) @NotNull String friendlyName) {
+            final @Nls(capitalization = Title) @NotNull String friendlyName,
+            final int ordinal) {
         this.name = Preconditions.checkNotNull(name, "name");
         this.friendlyName = Preconditions.checkNotNull(friendlyName, "friendlyName");
+        this.ordinal = ordinal;
     }
 
     public @NonNls @NotNull String getName() {
         return name;
     }
 
+    public int getOrdinal() {
+        return ordinal;
+    }
+
     public @Nls(capitalization = Title) @NotNull String toString() {
         return friendlyName;
     }
 
     @Override
     public boolean equals(final @Nullable Object o) {
-        if (this == o) return true;
-        if (!(o instanceof CategoryImpl)) return false;
-
-        CategoryImpl category = (CategoryImpl) o;
-
-        if (!name.equals(category.name)) return false;
-        return friendlyName.equals(category.friendlyName);
+        if (this == o) {
+            return true;
+        }
+        if (ordinal != UNREGISTERED || !(o instanceof CategoryImpl)) {
+            return false;
+        }
+        final CategoryImpl category = (CategoryImpl) o;
+        return category.ordinal == UNREGISTERED
+                && name.equals(category.name)
+                && friendlyName.equals(category.friendlyName);
     }
 
     @Override
     public int hashCode() {
-        int result = name.hashCode();
-        result = 31 * result + friendlyName.hashCode();
-        return result;
+        if (ordinal == UNREGISTERED) {
+            return 31 * name.hashCode() + friendlyName.hashCode();
+        }
+        return ordinal;
     }
 }
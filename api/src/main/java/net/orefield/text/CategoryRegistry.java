@@ -0,0 +1,240 @@
+/*
+ * Copyright (c) 2022 OreField
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.orefield.text;
+
+import static org.jetbrains.annotations.Nls.Capitalization.Title;
+
+import net.orefield.text.util.Preconditions;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.Nls;
+import org.jetbrains.annotations.NonNls;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The registry of all {@link Category categories}.
+ * <p>
+ * Categories are interned by {@link Category#getName() name}: there is only ever one instance of
+ * a category with a given name, so categories can be compared by identity. Each category is also
+ * assigned a dense {@link Category#getOrdinal() ordinal} in registration order, which may be used
+ * to index arrays of per-category data. The constants in {@link Category} are always registered
+ * first, so they have the lowest ordinals.
+ * <p>
+ * Registered categories are never removed. Don't register categories with names from unbounded
+ * sources, such as player input; look them up with {@link #get(String)} instead.
+ * <p>
+ * Lookups are lock-free. Registration is synchronized, but only happens once per category.
+ *
+ * @author Sparky983
+ * @see Category#of(String, String)
+ * @since 1.0.3
+ */
+public final class CategoryRegistry {
+
+    private static final ConcurrentMap<String, Category> CATEGORIES = new ConcurrentHashMap<>();
+
+    private static final Object REGISTRATION_LOCK = new Object();
+
+    private static volatile Category[] byOrdinal = new Category[0];
+
+    private CategoryRegistry() {
+    }
+
+    /**
+     * Returns the category with the specified {@code name}, registering a new category if there
+     * isn't one.
+     *
+     * @author Sparky983
+     * @param name The name.
+     * @param friendlyName The user-friendly name. This is used for {@link Category#toString()}.
+     * @return The category.
+     * @throws NullPointerException if {@code name} or {@code friendlyName} are {@code null}.
+     * @throws IllegalArgumentException if a category with the specified {@code name} is already
+     *                                  registered with a different {@code friendlyName}.
+     * @since 1.0.3
+     */
+    public static @NotNull Category register(final @NonNls @NotNull String name,
+            final @Nls(capitalization = Title) @NotNull String friendlyName) {
+        final Category category = intern(name, friendlyName);
+        if (!category.toString().equals(friendlyName)) {
+            throw new IllegalArgumentException("[" + name + "] is already registered with the "
+                    + "friendly name [" + category + "]");
+        }
+        return category;
+    }
+
+    /**
+     * Returns the category with the specified {@code name} and {@code friendlyName}.
+     * <p>
+     * This is the lenient form of {@link #register(String, String)} used by
+     * {@link Category#of(String, String)}: if a category with the specified {@code name} is
+     * already registered with a different {@code friendlyName}, a new unregistered category is
+     * returned instead of throwing.
+     *
+     * @author Sparky983
+     * @param name The name.
+     * @param friendlyName The user-friendly name.
+     * @return The category.
+     * @throws NullPointerException if {@code name} or {@code friendlyName} are {@code null}.
+     */
+    static @NotNull Category of(final @NonNls @NotNull String name,
+            final @Nls(capitalization = Title) @NotNull String friendlyName) {
+        final Category category = intern(name, friendlyName);
+        if (!category.toString().equals(friendlyName)) {
+            return new CategoryImpl(name, friendlyName, CategoryImpl.UNREGISTERED);
+        }
+        return category;
+    }
+
+    /**
+     * Returns the category registered with the specified {@code name}, registering a new
+     * category with the specified {@code friendlyName} if there isn't one.
+     *
+     * @author Sparky983
+     * @param name The name.
+     * @param friendlyName The user-friendly name.
+     * @return The registered category, which may have a different friendly name.
+     * @throws NullPointerException if {@code name} or {@code friendlyName} are {@code null}.
+     */
+    private static @NotNull Category intern(final @NonNls @NotNull String name,
+            final @Nls(capitalization = Title) @NotNull String friendlyName) {
+        Preconditions.checkNotNull(name, "name");
+        Preconditions.checkNotNull(friendlyName, "friendlyName");
+        // Outside the lock, as initializing Category registers its constants
+        ensureBuiltInCategoriesRegistered();
+
+        Category category = CATEGORIES.get(name);
+        if (category == null) {
+            synchronized (REGISTRATION_LOCK) {
+                category = CATEGORIES.get(name);
+                if (category == null) {
+                    final Category[] categories = byOrdinal;
+                    final Category[] newCategories = new Category[categories.length + 1];
+                    System.arraycopy(categories, 0, newCategories, 0, categories.length);
+
+                    category = new CategoryImpl(name, friendlyName, categories.length);
+                    newCategories[categories.length] = category;
+
+                    byOrdinal = newCategories;
+                    CATEGORIES.put(name, category);
+                }
+            }
+        }
+        return category;
+    }
+
+    /**
+     * Returns the category with the specified {@code name}.
+     *
+     * @author Sparky983
+     * @param name The name.
+     * @return The category, or {@code null} if no category with the specified {@code name} has
+     *         been registered.
+     * @throws NullPointerException if {@code name} is {@code null}.
+     * @since 1.0.3
+     */
+    @Contract(pure = true)
+    public static @Nullable Category get(final @NonNls @NotNull String name) {
+        Preconditions.checkNotNull(name, "name");
+        ensureBuiltInCategoriesRegistered();
+
+        return CATEGORIES.get(name);
+    }
+
+    /**
+     * Returns the category with the specified {@code ordinal}.
+     *
+     * @author Sparky983
+     * @param ordinal The ordinal.
+     * @return The category.
+     * @throws IndexOutOfBoundsException if {@code ordinal} is negative or not less than
+     *                                   {@link #size()}.
+     * @since 1.0.3
+     */
+    @Contract(pure = true)
+    public static @NotNull Category get(final int ordinal) {
+        ensureBuiltInCategoriesRegistered();
+
+        final Category[] categories = byOrdinal;
+        if (ordinal < 0 || ordinal >= categories.length) {
+            throw new IndexOutOfBoundsException("[ordinal] must be between 0 and "
+                    + categories.length + " (exclusive), but was " + ordinal);
+        }
+        return categories[ordinal];
+    }
+
+    /**
+     * Returns the amount of registered categories.
+     * <p>
+     * All ordinals are less than the size.
+     *
+     * @author Sparky983
+     * @return The size.
+     * @since 1.0.3
+     */
+    @Contract(pure = true)
+    public static int size() {
+        ensureBuiltInCategoriesRegistered();
+
+        return byOrdinal.length;
+    }
+
+    /**
+     * Returns all registered categories, ordered by ordinal.
+     *
+     * @author Sparky983
+     * @return The categories.
+     * @since 1.0.3
+     */
+    @Contract(value = "-> new", pure = true)
+    public static @NotNull @Unmodifiable List<@NotNull Category> categories() {
+        ensureBuiltInCategoriesRegistered();
+
+        final List<Category> categories = new ArrayList<>(byOrdinal.length);
+        Collections.addAll(categories, byOrdinal);
+        return Collections.unmodifiableList(categories);
+    }
+
+    /**
+     * Makes sure the constants in {@link Category} have been registered.
+     * <p>
+     * This is not done from a static initializer as {@link Category} registers its constants
+     * while initializing, and two classes initializing each other can deadlock. While
+     * {@link Category} is being initialized by the current thread, this does nothing.
+     *
+     * @author Sparky983
+     */
+    @SuppressWarnings("unused")
+    private static void ensureBuiltInCategoriesRegistered() {
+        // Reading a constant initializes Category, which registers all of its constants
+        final Category orefield = Category.OREFIELD;
+    }
+}
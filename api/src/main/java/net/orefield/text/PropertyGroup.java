@@ -0,0 +1,289 @@
+/*
+ * Copyright (c) 2022 OreField
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.orefield.text;
+
+import static org.jetbrains.annotations.Nls.Capitalization.Title;
+
+import net.orefield.text.util.Preconditions;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.Nls;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * Represents a named group of properties.
+ * <p>
+ * Unlike a {@code Collection} of {@link Property properties}, a property group stores its
+ * property names and values in parallel arrays, so it doesn't need an object per property.
+ * Property groups are built with a {@link Builder}, which may be {@link Builder#reset() reset}
+ * and reused to build any amount of groups:
+ * <pre>
+ * PropertyGroup.Builder&lt;Component&gt; builder = PropertyGroup.builder("Stats");
+ *
+ * for (Player player : players) {
+ *     PropertyGroup&lt;Component&gt; stats = builder.reset()
+ *             .add("Kills", Component.text(player.getKills()))
+ *             .add("Deaths", Component.text(player.getDeaths()))
+ *             .build();
+ *     player.sendMessage(Component.join(JoinConfiguration.newlines(),
+ *             AdventureTexts.adventureText().propertyGroup(stats)));
+ * }
+ * </pre>
+ * <p>
+ * Property groups are immutable and thread-safe. Builders aren't thread-safe.
+ *
+ * @author Sparky983
+ * @param <Message> The message type.
+ * @see Text#propertyGroup(PropertyGroup)
+ * @since 1.0.3
+ */
+public final class PropertyGroup<Message> {
+
+    private final String name;
+    private final String[] propertyNames;
+    private final Object[] values;
+
+    /**
+     * Constructs a new {@code PropertyGroup}.
+     *
+     * @author Sparky983
+     * @param name The group name.
+     * @param propertyNames The property names, owned by the property group.
+     * @param values The values, owned by the property group.
+     */
+    private PropertyGroup(final @NotNull String name,
+            final @NotNull String @NotNull [] propertyNames,
+            final @NotNull Object @NotNull [] values) {
+        this.name = name;
+        this.propertyNames = propertyNames;
+        this.values = values;
+    }
+
+    /**
+     * Returns a new property group builder with the specified {@code propertyGroupName}.
+     *
+     * @author Sparky983
+     * @param propertyGroupName The group name.
+     * @return The new builder.
+     * @param <T> The message type.
+     * @throws NullPointerException if {@code propertyGroupName} is {@code null}.
+     * @since 1.0.3
+     */
+    @Contract(value = "_ -> new", pure = true)
+    public static <T> @NotNull Builder<T> builder(
+            final @Nls(capitalization = Title) @NotNull String propertyGroupName) {
+        return new Builder<>(propertyGroupName);
+    }
+
+    /**
+     * Returns the group name.
+     *
+     * @author Sparky983
+     * @return The group name.
+     * @since 1.0.3
+     */
+    @Contract(pure = true)
+    public @Nls(capitalization = Title) @NotNull String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the amount of properties in this group.
+     *
+     * @author Sparky983
+     * @return The amount of properties.
+     * @since 1.0.3
+     */
+    @Contract(pure = true)
+    public int size() {
+        return propertyNames.length;
+    }
+
+    /**
+     * Returns the name of the property at the specified {@code index}.
+     *
+     * @author Sparky983
+     * @param index The index of the property.
+     * @return The property name.
+     * @throws IndexOutOfBoundsException if {@code index} is out of bounds.
+     * @since 1.0.3
+     */
+    @Contract(pure = true)
+    public @Nls(capitalization = Title) @NotNull String getPropertyName(final int index) {
+        return propertyNames[index];
+    }
+
+    /**
+     * Returns the value of the property at the specified {@code index}.
+     *
+     * @author Sparky983
+     * @param index The index of the property.
+     * @return The value.
+     * @throws IndexOutOfBoundsException if {@code index} is out of bounds.
+     * @since 1.0.3
+     */
+    @Contract(pure = true)
+    @SuppressWarnings("unchecked")
+    public @NotNull Message getValue(final int index) {
+        return (Message) values[index];
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object o) {
+        if (this == o) return true;
+        if (!(o instanceof PropertyGroup)) return false;
+
+        final PropertyGroup<?> propertyGroup = (PropertyGroup<?>) o;
+
+        if (!name.equals(propertyGroup.name)) return false;
+        if (!Arrays.equals(propertyNames, propertyGroup.propertyNames)) return false;
+        return Arrays.equals(values, propertyGroup.values);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = name.hashCode();
+        result = 31 * result + Arrays.hashCode(propertyNames);
+        result = 31 * result + Arrays.hashCode(values);
+        return result;
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "PropertyGroup(" +
+            "name='" + name + "'" +
+            ", propertyNames=" + Arrays.toString(propertyNames) +
+            ", values=" + Arrays.toString(values) +
+            ')';
+    }
+
+    /**
+     * A reusable builder of {@link PropertyGroup property groups}.
+     * <p>
+     * The builder's arrays grow as properties are added and are kept when it is
+     * {@link #reset() reset}, so a reused builder only allocates the arrays of the groups it
+     * builds.
+     *
+     * @author Sparky983
+     * @param <Message> The message type.
+     * @since 1.0.3
+     */
+    public static final class Builder<Message> {
+
+        private static final int INITIAL_CAPACITY = 8;
+
+        private String name;
+        private String[] propertyNames = new String[INITIAL_CAPACITY];
+        private Object[] values = new Object[INITIAL_CAPACITY];
+        private int size;
+
+        /**
+         * Constructs a new {@code Builder}.
+         *
+         * @author Sparky983
+         * @param name The group name.
+         * @throws NullPointerException if {@code name} is {@code null}.
+         */
+        private Builder(final @NotNull String name) {
+            this.name = Preconditions.checkNotNull(name, "propertyGroupName");
+        }
+
+        /**
+         * Sets the group name.
+         *
+         * @author Sparky983
+         * @param propertyGroupName The group name.
+         * @return This builder.
+         * @throws NullPointerException if {@code propertyGroupName} is {@code null}.
+         * @since 1.0.3
+         */
+        @Contract("_ -> this")
+        public @NotNull Builder<Message> name(
+                final @Nls(capitalization = Title) @NotNull String propertyGroupName) {
+            this.name = Preconditions.checkNotNull(propertyGroupName, "propertyGroupName");
+            return this;
+        }
+
+        /**
+         * Adds a property with the specified {@code propertyName} and {@code value}.
+         *
+         * @author Sparky983
+         * @param propertyName The property name.
+         * @param value The value.
+         * @return This builder.
+         * @throws NullPointerException if {@code propertyName} or {@code value} are
+         *                              {@code null}.
+         * @since 1.0.3
+         */
+        @Contract("_, _ -> this")
+        public @NotNull Builder<Message> add(
+                final @Nls(capitalization = Title) @NotNull String propertyName,
+                final @NotNull Message value) {
+            Preconditions.checkNotNull(propertyName, "propertyName");
+            Preconditions.checkNotNull(value, "value");
+
+            if (size == propertyNames.length) {
+                propertyNames = Arrays.copyOf(propertyNames, size * 2);
+                values = Arrays.copyOf(values, size * 2);
+            }
+            propertyNames[size] = propertyName;
+            values[size] = value;
+            size++;
+            return this;
+        }
+
+        /**
+         * Removes every property added to this builder, keeping its group name.
+         *
+         * @author Sparky983
+         * @return This builder.
+         * @since 1.0.3
+         */
+        @Contract("-> this")
+        public @NotNull Builder<Message> reset() {
+            Arrays.fill(propertyNames, 0, size, null);
+            Arrays.fill(values, 0, size, null);
+            size = 0;
+            return this;
+        }
+
+        /**
+         * Returns a new property group with the group name and properties of this builder.
+         * <p>
+         * The builder may be modified afterwards without affecting the property group.
+         *
+         * @author Sparky983
+         * @return The new property group.
+         * @since 1.0.3
+         */
+        @Contract(value = "-> new", pure = true)
+        public @NotNull PropertyGroup<Message> build() {
+            return new PropertyGroup<>(name,
+                    Arrays.copyOf(propertyNames, size),
+                    Arrays.copyOf(values, size));
+        }
+    }
+}
@@ -24,13 +24,21 @@ package net.orefield.text;
 
 import static org.jetbrains.annotations.Nls.Capitalization.Title;
 
+import net.orefield.text.util.Preconditions;
+
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.Nls;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Unmodifiable;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.stream.Stream;
 
 /**
  * A factory for creating messages compliant with OreField's design system and standards.
@@ -57,7 +65,9 @@ public interface Text<Message> {
     @Nls String INDENT = "  ";
 
     /**
-     * Returns a new title.
+     * Returns a title.
+     * <p>
+     * Implementations may return a shared instance for equal titles.
      *
      * @author Sparky983
      * @param title The title.
@@ -65,21 +75,22 @@ public interface Text<Message> {
      * @throws NullPointerException if {@code title} is {@code null}.
      * @since 1.0.0
      */
-    @Contract(value = "_ -> new", pure = true)
+    @Contract(pure = true)
     @NotNull
     Message title(final @Nls(capitalization = Title) @NotNull String title);
 
     /**
      * Creates a title for the specified {@code category}.
      * <p>
-     * The same as calling {@code Text.title(category.toString())}.
+     * The same as calling {@code Text.title(category.toString())}. Implementations may return a
+     * shared instance for equal categories.
      * @author Sparky983
      * @param category The category.
      * @return The title.
      * @throws NullPointerException if {@code category} is {@code null}.
      * @since 1.0.0
      */
-    @Contract(value = "_ -> new", pure = true)
+    @Contract(pure = true)
     @NotNull
     Message title(final @NotNull Category category);
 
@@ -181,6 +192,99 @@ public interface Text<Message> {
     Message property(final @Nls(capitalization = Title) @NotNull String propertyName,
             final @NotNull Message value);
 
+    /**
+     * Returns a new message of the specified plain property {@code value}, as used by the default
+     * implementations of the numeric {@link #property(String, long) property} methods.
+     * <p>
+     * The default implementation throws, as a message can't be built from a string in general;
+     * implementations should override it.
+     *
+     * @author Sparky983
+     * @param value The property value.
+     * @return The property value message.
+     * @throws NullPointerException if {@code value} is {@code null}.
+     * @throws UnsupportedOperationException if the implementation doesn't override this method.
+     * @since 1.0.3
+     */
+    @Contract(value = "_ -> new", pure = true)
+    default @NotNull Message propertyValue(final @NotNull String value) {
+        Preconditions.checkNotNull(value, "value");
+
+        throw new UnsupportedOperationException(
+                getClass().getName() + " doesn't support plain property values");
+    }
+
+    /**
+     * Returns a new property message of a property with the specified {@code propertyName} and
+     * numeric {@code value}.
+     * <p>
+     * The same as calling {@code Text.property(propertyName, (long) value)}.
+     *
+     * @author Sparky983
+     * @param propertyName The property name.
+     * @param value The property value.
+     * @return The property message.
+     * @throws NullPointerException if {@code propertyName} is {@code null}.
+     * @since 1.0.3
+     */
+    @Contract(value = "_, _ -> new", pure = true)
+    default @NotNull Message property(
+            final @Nls(capitalization = Title) @NotNull String propertyName,
+            final int value) {
+        return property(propertyName, (long) value);
+    }
+
+    /**
+     * Returns a new property message of a property with the specified {@code propertyName} and
+     * numeric {@code value}, formatted like {@link String#valueOf(long)}.
+     * <p>
+     * Prefer this over rendering the number as a message yourself: implementations may reuse
+     * the rendered values of common numbers. The default implementation renders the value with
+     * {@link #propertyValue(String)}.
+     *
+     * @author Sparky983
+     * @param propertyName The property name.
+     * @param value The property value.
+     * @return The property message.
+     * @throws NullPointerException if {@code propertyName} is {@code null}.
+     * @throws UnsupportedOperationException if the implementation supports neither this method
+     *                                       nor {@link #propertyValue(String)}.
+     * @since 1.0.3
+     */
+    @Contract(value = "_, _ -> new", pure = true)
+    default @NotNull Message property(
+            final @Nls(capitalization = Title) @NotNull String propertyName,
+            final long value) {
+        Preconditions.checkNotNull(propertyName, "propertyName");
+
+        return property(propertyName, propertyValue(String.valueOf(value)));
+    }
+
+    /**
+     * Returns a new property message of a property with the specified {@code propertyName} and
+     * numeric {@code value}, formatted like {@link String#valueOf(double)}.
+     * <p>
+     * Prefer this over rendering the number as a message yourself: implementations may reuse
+     * the rendered values of common numbers. The default implementation renders the value with
+     * {@link #propertyValue(String)}.
+     *
+     * @author Sparky983
+     * @param propertyName The property name.
+     * @param value The property value.
+     * @return The property message.
+     * @throws NullPointerException if {@code propertyName} is {@code null}.
+     * @throws UnsupportedOperationException if the implementation supports neither this method
+     *                                       nor {@link #propertyValue(String)}.
+     * @since 1.0.3
+     */
+    @Contract(value = "_, _ -> new", pure = true)
+    default @NotNull Message property(
+            final @Nls(capitalization = Title) @NotNull String propertyName,
+            final double value) {
+        Preconditions.checkNotNull(propertyName, "propertyName");
+
+        return property(propertyName, propertyValue(String.valueOf(value)));
+    }
 
     /**
      * Returns a new property group message with the specified {@code groupName} and
@@ -198,4 +302,168 @@ public interface Text<Message> {
     List<@NotNull Message> propertyGroup(
             final @Nls(capitalization = Title) @NotNull String propertyGroupName,
             final @NotNull Collection<@NotNull Property<? extends Message>> properties);
+
+    /**
+     * Returns a new property group message of the specified {@code propertyGroup}.
+     * <p>
+     * The lines are the same as the lines of
+     * {@link #propertyGroup(String, Collection) propertyGroup} with the same group name and
+     * properties. The default implementation copies the properties into a collection;
+     * implementations should override it to read the property group directly.
+     *
+     * @author Sparky983
+     * @param propertyGroup The property group.
+     * @return The property group message.
+     * @throws NullPointerException if {@code propertyGroup} is {@code null}.
+     * @since 1.0.3
+     */
+    @Contract(value = "_ -> new", pure = true)
+    default @NotNull @Unmodifiable List<@NotNull Message> propertyGroup(
+            final @NotNull PropertyGroup<? extends Message> propertyGroup) {
+        Preconditions.checkNotNull(propertyGroup, "propertyGroup");
+
+        final List<Property<? extends Message>> properties =
+                new ArrayList<>(propertyGroup.size());
+        for (int i = 0; i < propertyGroup.size(); i++) {
+            properties.add(Property.of(propertyGroup.getPropertyName(i),
+                    propertyGroup.getValue(i)));
+        }
+        return propertyGroup(propertyGroup.getName(), properties);
+    }
+
+    /**
+     * Returns a lazily rendered property group message with the specified {@code groupName} and
+     * {@code properties}.
+     * <p>
+     * The lines are the same as the lines of
+     * {@link #propertyGroup(String, Collection) propertyGroup}, but implementations may render
+     * each line only when it is consumed. The {@code properties} must not be modified while the
+     * stream is being consumed.
+     * <p>
+     * The default implementation renders the whole group eagerly.
+     *
+     * @author Sparky983
+     * @param propertyGroupName The group name.
+     * @param properties The properties.
+     * @return The lines of the property group.
+     * @throws NullPointerException if {@code propertyGroupName} or {@code properties} are
+     *                              {@code null}.
+     * @since 1.0.3
+     */
+    @Contract(value = "_, _ -> new", pure = true)
+    default @NotNull Stream<@NotNull Message> propertyGroupStream(
+            final @Nls(capitalization = Title) @NotNull String propertyGroupName,
+            final @NotNull Collection<@NotNull Property<? extends Message>> properties) {
+        return propertyGroup(propertyGroupName, properties).stream();
+    }
+
+    /**
+     * Returns a page of a property group message with the specified {@code groupName} and
+     * {@code properties}.
+     * <p>
+     * The page contains the group name followed by at most {@code pageSize} properties, starting
+     * at property {@code page * pageSize}. Only the properties on the page are rendered. Pages past
+     * the last property only contain the group name.
+     *
+     * @author Sparky983
+     * @param propertyGroupName The group name.
+     * @param properties The properties.
+     * @param page The index of the page, starting at {@code 0}.
+     * @param pageSize The maximum amount of properties on a page.
+     * @return The page of the property group.
+     * @throws NullPointerException if {@code propertyGroupName} or {@code properties} are
+     *                              {@code null}.
+     * @throws IllegalArgumentException if {@code page} is negative or {@code pageSize} isn't
+     *                                  positive.
+     * @since 1.0.3
+     */
+    @Contract(value = "_, _, _, _ -> new", pure = true)
+    default @NotNull @Unmodifiable List<@NotNull Message> propertyGroupPage(
+            final @Nls(capitalization = Title) @NotNull String propertyGroupName,
+            final @NotNull Collection<@NotNull Property<? extends Message>> properties,
+            final int page,
+            final int pageSize) {
+        Preconditions.checkNotNull(properties, "properties");
+        Preconditions.checkArgument(page >= 0, "[page] cannot be negative");
+        Preconditions.checkArgument(pageSize > 0, "[pageSize] must be positive");
+
+        final long start = (long) page * pageSize;
+        final int end = (int) Math.min(start + pageSize, properties.size());
+        final List<Property<? extends Message>> pageProperties =
+                new ArrayList<>((int) Math.max(0, end - start));
+
+        if (properties instanceof List && properties instanceof RandomAccess) {
+            final List<Property<? extends Message>> list =
+                    (List<Property<? extends Message>>) properties;
+            for (int i = (int) Math.min(start, end); i < end; i++) {
+                pageProperties.add(list.get(i));
+            }
+        } else {
+            final Iterator<Property<? extends Message>> iterator = properties.iterator();
+            for (int i = 0; i < end && iterator.hasNext(); i++) {
+                final Property<? extends Message> property = iterator.next();
+                if (i >= start) {
+                    pageProperties.add(property);
+                }
+            }
+        }
+
+        return propertyGroup(propertyGroupName, pageProperties);
+    }
+
+    /**
+     * Returns a new property message for each of the specified {@code properties}.
+     * <p>
+     * The messages are in the same order as the {@code properties}. Implementations may render
+     * large batches in parallel.
+     *
+     * @author Sparky983
+     * @param properties The properties.
+     * @return The property messages.
+     * @throws NullPointerException if {@code properties} or any of its elements are {@code null}.
+     * @see #property(Property)
+     * @since 1.0.3
+     */
+    @Contract(value = "_ -> new", pure = true)
+    default @NotNull @Unmodifiable List<@NotNull Message> properties(
+            final @NotNull Collection<@NotNull Property<? extends Message>> properties) {
+        Preconditions.checkNotNull(properties, "properties");
+
+        final List<Message> messages = new ArrayList<>(properties.size());
+        for (final Property<? extends Message> property : properties) {
+            messages.add(property(property));
+        }
+        return Collections.unmodifiableList(messages);
+    }
+
+    /**
+     * Returns a new property group message for each entry of the specified
+     * {@code propertyGroups}.
+     * <p>
+     * The property groups are in the iteration order of {@code propertyGroups}, so pass an
+     * ordered map such as a {@link java.util.LinkedHashMap} to control the order.
+     * Implementations may render large batches in parallel.
+     *
+     * @author Sparky983
+     * @param propertyGroups The properties of each group, by group name.
+     * @return The property groups.
+     * @throws NullPointerException if {@code propertyGroups} or any of its keys, values or
+     *                              properties are {@code null}.
+     * @see #propertyGroup(String, Collection)
+     * @since 1.0.3
+     */
+    @Contract(value = "_ -> new", pure = true)
+    default @NotNull @Unmodifiable List<@NotNull List<@NotNull Message>> propertyGroups(
+            final @NotNull Map<@NotNull String,
+                    ? extends @NotNull Collection<@NotNull Property<? extends Message>>>
+                    propertyGroups) {
+        Preconditions.checkNotNull(propertyGroups, "propertyGroups");
+
+        final List<List<Message>> messages = new ArrayList<>(propertyGroups.size());
+        for (final Map.Entry<String, ? extends Collection<Property<? extends Message>>>
+                propertyGroup : propertyGroups.entrySet()) {
+            messages.add(propertyGroup(propertyGroup.getKey(), propertyGroup.getValue()));
+        }
+        return Collections.unmodifiableList(messages);
+    }
 }
@@ -0,0 +1,335 @@
+/*
+ * Copyright (c) 2022 OreField
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.orefield.text.async;
+
+import static org.jetbrains.annotations.Nls.Capitalization.Title;
+
+import net.orefield.text.Category;
+import net.orefield.text.Property;
+import net.orefield.text.PropertyGroup;
+import net.orefield.text.Text;
+import net.orefield.text.util.Preconditions;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.Nls;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * An asynchronous version of {@link Text}, rendering messages off the calling thread.
+ * <p>
+ * Each method mirrors the {@link Text} method of the same name, but returns a
+ * {@link CompletableFuture} completed with the rendered message, so the calling thread, such as a
+ * server's main thread, never waits for large renders. Arguments are checked on the calling
+ * thread; exceptions thrown while rendering complete the future exceptionally. Collections passed
+ * to the methods must not be modified until the returned future completes.
+ * <p>
+ * Create one with {@link #wrap(Text, Executor)}:
+ * <pre>
+ * AsyncText&lt;Component&gt; asyncText = AsyncText.wrap(
+ *         AdventureTexts.adventureText(),
+ *         AsyncText.defaultExecutor());
+ *
+ * asyncText.propertyGroup("Players", properties).thenAccept(gui::setLines);
+ * </pre>
+ *
+ * @author Sparky983
+ * @param <Message> The type of the message.
+ * @since 1.0.3
+ */
+public interface AsyncText<Message> {
+
+    /**
+     * Returns a new {@code AsyncText} rendering with the specified {@code text} on the specified
+     * {@code executor}.
+     *
+     * @author Sparky983
+     * @param text The text used to render messages. This must be thread-safe.
+     * @param executor The executor messages are rendered on.
+     * @return The asynchronous text.
+     * @param <Message> The type of the message.
+     * @throws NullPointerException if {@code text} or {@code executor} are {@code null}.
+     * @since 1.0.3
+     */
+    @Contract(value = "_, _ -> new", pure = true)
+    static <Message> @NotNull AsyncText<Message> wrap(final @NotNull Text<Message> text,
+            final @NotNull Executor executor) {
+        Preconditions.checkNotNull(text, "text");
+        Preconditions.checkNotNull(executor, "executor");
+
+        return new ExecutorAsyncText<>(text, executor);
+    }
+
+    /**
+     * Returns a new executor suitable for rendering messages asynchronously.
+     * <p>
+     * On Java 21 and above this is a virtual thread per task executor. On older versions it is a
+     * fixed thread pool with a thread per available processor. The caller owns the executor and is
+     * responsible for shutting it down.
+     *
+     * @author Sparky983
+     * @return The executor.
+     * @since 1.0.3
+     */
+    @Contract(value = "-> new", pure = true)
+    static @NotNull ExecutorService defaultExecutor() {
+        try {
+            final Method newVirtualThreadPerTaskExecutor =
+                    Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) newVirtualThreadPerTaskExecutor.invoke(null);
+        } catch (final ReflectiveOperationException e) {
+            return Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        }
+    }
+
+    /**
+     * Renders a title.
+     *
+     * @author Sparky983
+     * @param title The title.
+     * @return A future completed with the rendered message.
+     * @throws NullPointerException if {@code title} is {@code null}.
+     * @see Text#title(String)
+     * @since 1.0.3
+     */
+    @NotNull CompletableFuture<Message> title(
+            final @Nls(capitalization = Title) @NotNull String title);
+
+    /**
+     * Renders the title of the specified {@code category}.
+     *
+     * @author Sparky983
+     * @param category The category.
+     * @return A future completed with the rendered message.
+     * @throws NullPointerException if {@code category} is {@code null}.
+     * @see Text#title(Category)
+     * @since 1.0.3
+     */
+    @NotNull CompletableFuture<Message> title(final @NotNull Category category);
+
+    /**
+     * Renders the OreField title.
+     *
+     * @author Sparky983
+     * @return A future completed with the rendered message.
+     * @see Text#orefield()
+     * @since 1.0.3
+     */
+    @NotNull CompletableFuture<Message> orefield();
+
+    /**
+     * Renders an information message.
+     *
+     * @author Sparky983
+     * @param category The category.
+     * @param message The message.
+     * @return A future completed with the rendered message.
+     * @throws NullPointerException if {@code category} or {@code message} are {@code null}.
+     * @see Text#information(Category, Object)
+     * @since 1.0.3
+     */
+    @NotNull CompletableFuture<Message> information(final @NotNull Category category,
+            final @NotNull Message message);
+
+    /**
+     * Renders an error message.
+     *
+     * @author Sparky983
+     * @param message The message.
+     * @return A future completed with the rendered message.
+     * @throws NullPointerException if {@code message} is {@code null}.
+     * @see Text#error(Object)
+     * @since 1.0.3
+     */
+    @NotNull CompletableFuture<Message> error(final @NotNull Message message);
+
+    /**
+     * Renders a warning message.
+     *
+     * @author Sparky983
+     * @param message The message.
+     * @return A future completed with the rendered message.
+     * @throws NullPointerException if {@code message} is {@code null}.
+     * @see Text#warning(Object)
+     * @since 1.0.3
+     */
+    @NotNull CompletableFuture<Message> warning(final @NotNull Message message);
+
+    /**
+     * Renders a call to action message.
+     *
+     * @author Sparky983
+     * @param message The message.
+     * @return A future completed with the rendered message.
+     * @throws NullPointerException if {@code message} is {@code null}.
+     * @see Text#callToAction(Object)
+     * @since 1.0.3
+     */
+    @NotNull CompletableFuture<Message> callToAction(final @NotNull Message message);
+
+    /**
+     * Renders a property message.
+     *
+     * @author Sparky983
+     * @param property The property.
+     * @return A future completed with the rendered message.
+     * @throws NullPointerException if {@code property} is {@code null}.
+     * @see Text#property(Property)
+     * @since 1.0.3
+     */
+    @NotNull CompletableFuture<Message> property(
+            final @NotNull Property<? extends Message> property);
+
+    /**
+     * Renders a property message.
+     *
+     * @author Sparky983
+     * @param propertyName The property name.
+     * @param value The property value.
+     * @return A future completed with the rendered message.
+     * @throws NullPointerException if {@code propertyName} or {@code value} are {@code null}.
+     * @see Text#property(String, Object)
+     * @since 1.0.3
+     */
+    @NotNull CompletableFuture<Message> property(
+            final @Nls(capitalization = Title) @NotNull String propertyName,
+            final @NotNull Message value);
+
+    /**
+     * Renders a numeric property message.
+     *
+     * @author Sparky983
+     * @param propertyName The property name.
+     * @param value The property value.
+     * @return A future completed with the rendered message.
+     * @throws NullPointerException if {@code propertyName} is {@code null}.
+     * @see Text#property(String, long)
+     * @since 1.0.3
+     */
+    @NotNull CompletableFuture<Message> property(
+            final @Nls(capitalization = Title) @NotNull String propertyName,
+            final long value);
+
+    /**
+     * Renders a numeric property message.
+     *
+     * @author Sparky983
+     * @param propertyName The property name.
+     * @param value The property value.
+     * @return A future completed with the rendered message.
+     * @throws NullPointerException if {@code propertyName} is {@code null}.
+     * @see Text#property(String, double)
+     * @since 1.0.3
+     */
+    @NotNull CompletableFuture<Message> property(
+            final @Nls(capitalization = Title) @NotNull String propertyName,
+            final double value);
+
+    /**
+     * Renders a property group.
+     *
+     * @author Sparky983
+     * @param propertyGroupName The group name.
+     * @param properties The properties.
+     * @return A future completed with the rendered message.
+     * @throws NullPointerException if {@code propertyGroupName} or {@code properties} are {@code
+     *                              null}.
+     * @see Text#propertyGroup(String, Collection)
+     * @since 1.0.3
+     */
+    @NotNull CompletableFuture<@Unmodifiable List<@NotNull Message>> propertyGroup(
+            final @Nls(capitalization = Title) @NotNull String propertyGroupName,
+            final @NotNull Collection<@NotNull Property<? extends Message>> properties);
+
+    /**
+     * Renders a columnar property group.
+     *
+     * @author Sparky983
+     * @param propertyGroup The property group.
+     * @return A future completed with the rendered message.
+     * @throws NullPointerException if {@code propertyGroup} is {@code null}.
+     * @see Text#propertyGroup(PropertyGroup)
+     * @since 1.0.3
+     */
+    @NotNull CompletableFuture<@Unmodifiable List<@NotNull Message>> propertyGroup(
+            final @NotNull PropertyGroup<? extends Message> propertyGroup);
+
+    /**
+     * Renders a page of a property group.
+     *
+     * @author Sparky983
+     * @param propertyGroupName The group name.
+     * @param properties The properties.
+     * @param page The 0-based page index.
+     * @param pageSize The maximum amount of properties per page.
+     * @return A future completed with the rendered message.
+     * @throws NullPointerException if {@code propertyGroupName} or {@code properties} are {@code
+     *                              null}.
+     * @throws IllegalArgumentException if {@code page} is negative or {@code pageSize} isn't
+     *                                  positive.
+     * @see Text#propertyGroupPage(String, Collection, int, int)
+     * @since 1.0.3
+     */
+    @NotNull CompletableFuture<@Unmodifiable List<@NotNull Message>> propertyGroupPage(
+            final @Nls(capitalization = Title) @NotNull String propertyGroupName,
+            final @NotNull Collection<@NotNull Property<? extends Message>> properties,
+            final int page,
+            final int pageSize);
+
+    /**
+     * Renders a batch of property messages.
+     *
+     * @author Sparky983
+     * @param properties The properties.
+     * @return A future completed with the rendered message.
+     * @throws NullPointerException if {@code properties} is {@code null}.
+     * @see Text#properties(Collection)
+     * @since 1.0.3
+     */
+    @NotNull CompletableFuture<@Unmodifiable List<@NotNull Message>> properties(
+            final @NotNull Collection<@NotNull Property<? extends Message>> properties);
+
+    /**
+     * Renders a batch of property groups.
+     *
+     * @author Sparky983
+     * @param propertyGroups The properties of each group by their group names.
+     * @return A future completed with the rendered message.
+     * @throws NullPointerException if {@code propertyGroups} is {@code null}.
+     * @see Text#propertyGroups(Map)
+     * @since 1.0.3
+     */
+    @NotNull CompletableFuture<@Unmodifiable List<@NotNull List<@NotNull Message>>> propertyGroups(
+            final @NotNull Map<@NotNull String,
+                    ? extends @NotNull Collection<@NotNull Property<? extends Message>>>
+                    propertyGroups);
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2022 OreField
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.orefield.text.async;
+
+import static org.jetbrains.annotations.Nls.Capitalization.Title;
+
+import net.orefield.text.Category;
+import net.orefield.text.Property;
+import net.orefield.text.PropertyGroup;
+import net.orefield.text.Text;
+import net.orefield.text.util.Preconditions;
+
+import org.jetbrains.annotations.Nls;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * An {@link AsyncText} rendering with a {@link Text} on an {@link Executor}.
+ *
+ * @author Sparky983
+ * @param <Message> The type of the message.
+ * @see AsyncText#wrap(Text, Executor)
+ */
+final class ExecutorAsyncText<Message> implements AsyncText<Message> {
+
+    private final Text<Message> text;
+    private final Executor executor;
+
+    /**
+     * Constructs a new {@code ExecutorAsyncText}.
+     *
+     * @author Sparky983
+     * @param text The text used to render messages.
+     * @param executor The executor messages are rendered on.
+     */
+    ExecutorAsyncText(final @NotNull Text<Message> text, final @NotNull Executor executor) {
+        this.text = text;
+        this.executor = executor;
+    }
+
+    @Override
+    public @NotNull CompletableFuture<Message> title(
+            final @Nls(capitalization = Title) @NotNull String title) {
+        Preconditions.checkNotNull(title, "title");
+
+        return CompletableFuture.supplyAsync(() -> text.title(title), executor);
+    }
+
+    @Override
+    public @NotNull CompletableFuture<Message> title(final @NotNull Category category) {
+        Preconditions.checkNotNull(category, "category");
+
+        return CompletableFuture.supplyAsync(() -> text.title(category), executor);
+    }
+
+    @Override
+    public @NotNull CompletableFuture<Message> orefield() {
+        return CompletableFuture.supplyAsync(text::orefield, executor);
+    }
+
+    @Override
+    public @NotNull CompletableFuture<Message> information(final @NotNull Category category,
+            final @NotNull Message message) {
+        Preconditions.checkNotNull(category, "category");
+        Preconditions.checkNotNull(message, "message");
+
+        return CompletableFuture.supplyAsync(() -> text.information(category, message), executor);
+    }
+
+    @Override
+    public @NotNull CompletableFuture<Message> error(final @NotNull Message message) {
+        Preconditions.checkNotNull(message, "message");
+
+        return CompletableFuture.supplyAsync(() -> text.error(message), executor);
+    }
+
+    @Override
+    public @NotNull CompletableFuture<Message> warning(final @NotNull Message message) {
+        Preconditions.checkNotNull(message, "message");
+
+        return CompletableFuture.supplyAsync(() -> text.warning(message), executor);
+    }
+
+    @Override
+    public @NotNull CompletableFuture<Message> callToAction(final @NotNull Message message) {
+        Preconditions.checkNotNull(message, "message");
+
+        return CompletableFuture.supplyAsync(() -> text.callToAction(message), executor);
+    }
+
+    @Override
+    public @NotNull CompletableFuture<Message> property(
+            final @NotNull Property<? extends Message> property) {
+        Preconditions.checkNotNull(property, "property");
+
+        return CompletableFuture.supplyAsync(() -> text.property(property), executor);
+    }
+
+    @Override
+    public @NotNull CompletableFuture<Message> property(
+            final @Nls(capitalization = Title) @NotNull String propertyName,
+            final @NotNull Message value) {
+        Preconditions.checkNotNull(propertyName, "propertyName");
+        Preconditions.checkNotNull(value, "value");
+
+        return CompletableFuture.supplyAsync(() -> text.property(propertyName, value), executor);
+    }
+
+    @Override
+    public @NotNull CompletableFuture<Message> property(
+            final @Nls(capitalization = Title) @NotNull String propertyName,
+            final long value) {
+        Preconditions.checkNotNull(propertyName, "propertyName");
+
+        return CompletableFuture.supplyAsync(() -> text.property(propertyName, value), executor);
+    }
+
+    @Override
+    public @NotNull CompletableFuture<Message> property(
+            final @Nls(capitalization = Title) @NotNull String propertyName,
+            final double value) {
+        Preconditions.checkNotNull(propertyName, "propertyName");
+
+        return CompletableFuture.supplyAsync(() -> text.property(propertyName, value), executor);
+    }
+
+    @Override
+    public @NotNull CompletableFuture<@Unmodifiable List<@NotNull Message>> propertyGroup(
+            final @Nls(capitalization = Title) @NotNull String propertyGroupName,
+            final @NotNull Collection<@NotNull Property<? extends Message>> properties) {
+        Preconditions.checkNotNull(propertyGroupName, "propertyGroupName");
+        Preconditions.checkNotNull(properties, "properties");
+
+        return CompletableFuture.supplyAsync(
+                () -> text.propertyGroup(propertyGroupName, properties),
+                executor);
+    }
+
+    @Override
+    public @NotNull CompletableFuture<@Unmodifiable List<@NotNull Message>> propertyGroup(
+            final @NotNull PropertyGroup<? extends Message> propertyGroup) {
+        Preconditions.checkNotNull(propertyGroup, "propertyGroup");
+
+        return CompletableFuture.supplyAsync(() -> text.propertyGroup(propertyGroup), executor);
+    }
+
+    @Override
+    public @NotNull CompletableFuture<@Unmodifiable List<@NotNull Message>> propertyGroupPage(
+            final @Nls(capitalization = Title) @NotNull String propertyGroupName,
+            final @NotNull Collection<@NotNull Property<? extends Message>> properties,
+            final int page,
+            final int pageSize) {
+        Preconditions.checkNotNull(propertyGroupName, "propertyGroupName");
+        Preconditions.checkNotNull(properties, "properties");
+        Preconditions.checkArgument(page >= 0, "[page] cannot be negative");
+        Preconditions.checkArgument(pageSize > 0, "[pageSize] must be positive");
+
+        return CompletableFuture.supplyAsync(
+                () -> text.propertyGroupPage(propertyGroupName, properties, page, pageSize),
+                executor);
+    }
+
+    @Override
+    public @NotNull CompletableFuture<@Unmodifiable List<@NotNull Message>> properties(
+            final @NotNull Collection<@NotNull Property<? extends Message>> properties) {
+        Preconditions.checkNotNull(properties, "properties");
+
+        return CompletableFuture.supplyAsync(() -> text.properties(properties), executor);
+    }
+
+    @Override
+    public @NotNull CompletableFuture<List<List<Message>>> propertyGroups(
+            final @NotNull Map<@NotNull String,
+                    ? extends @NotNull Collection<@NotNull Property<? extends Message>>>
+                    propertyGroups) {
+        Preconditions.checkNotNull(propertyGroups, "propertyGroups");
+
+        return CompletableFuture.supplyAsync(() -> text.propertyGroups(propertyGroups), executor);
+    }
+}
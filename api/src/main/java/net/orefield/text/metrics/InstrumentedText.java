@@ -0,0 +1,340 @@
+/*
+ * Copyright (c) 2022 OreField
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.orefield.text.metrics;
+
+import static org.jetbrains.annotations.Nls.Capitalization.Title;
+
+import net.orefield.text.Category;
+import net.orefield.text.Property;
+import net.orefield.text.PropertyGroup;
+import net.orefield.text.Text;
+import net.orefield.text.util.Preconditions;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.Nls;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A {@link Text} decorator recording a call and its latency to {@link TextMetrics} for every
+ * method call.
+ * <p>
+ * Calls that throw are not recorded. Calls to {@link #title(Category)} and
+ * {@link #information(Category, Object)} are recorded with their category.
+ * <p>
+ * The decorator only sees calls, not the caches of the decorated text. Implementations that cache
+ * may report cache lookups to {@link TextMetrics} themselves, for example
+ * {@code AdventureText}, when constructed with the same metrics.
+ *
+ * @author Sparky983
+ * @param <Message> The type of the message.
+ * @since 1.0.3
+ */
+public final class InstrumentedText<Message> implements Text<Message> {
+
+    private final Text<Message> text;
+    private final TextMetrics metrics;
+
+    private InstrumentedText(final @NotNull Text<Message> text,
+            final @NotNull TextMetrics metrics) {
+        this.text = text;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Returns a new {@code InstrumentedText} recording calls to the specified {@code text} to
+     * the specified {@code metrics}.
+     *
+     * @author Sparky983
+     * @param text The text to decorate.
+     * @param metrics The metrics.
+     * @return The instrumented text.
+     * @param <Message> The type of the message.
+     * @throws NullPointerException if {@code text} or {@code metrics} are {@code null}.
+     * @since 1.0.3
+     */
+    @Contract(value = "_, _ -> new", pure = true)
+    public static <Message> @NotNull InstrumentedText<Message> wrap(
+            final @NotNull Text<Message> text,
+            final @NotNull TextMetrics metrics) {
+        Preconditions.checkNotNull(text, "text");
+        Preconditions.checkNotNull(metrics, "metrics");
+
+        return new InstrumentedText<>(text, metrics);
+    }
+
+    @Override
+    public @NotNull Message title(final @Nls(capitalization = Title) @NotNull String title) {
+        final long start = System.nanoTime();
+        final Message result = text.title(title);
+        metrics.recordCall(TextMethod.TITLE, null, System.nanoTime() - start);
+        return result;
+    }
+
+    @Override
+    public @NotNull Message title(final @NotNull Category category) {
+        final long start = System.nanoTime();
+        final Message result = text.title(category);
+        metrics.recordCall(TextMethod.TITLE, category, System.nanoTime() - start);
+        return result;
+    }
+
+    @Override
+    public @NotNull Message orefield() {
+        final long start = System.nanoTime();
+        final Message result = text.orefield();
+        metrics.recordCall(TextMethod.OREFIELD, null, System.nanoTime() - start);
+        return result;
+    }
+
+    @Override
+    public @NotNull Message information(final @NotNull Category category,
+            final @NotNull Message message) {
+        final long start = System.nanoTime();
+        final Message result = text.information(category, message);
+        metrics.recordCall(TextMethod.INFORMATION, category, System.nanoTime() - start);
+        return result;
+    }
+
+    @Override
+    public @NotNull Message error(final @NotNull Message message) {
+        final long start = System.nanoTime();
+        final Message result = text.error(message);
+        metrics.recordCall(TextMethod.ERROR, null, System.nanoTime() - start);
+        return result;
+    }
+
+    @Override
+    public @NotNull Message warning(final @NotNull Message message) {
+        final long start = System.nanoTime();
+        final Message result = text.warning(message);
+        metrics.recordCall(TextMethod.WARNING, null, System.nanoTime() - start);
+        return result;
+    }
+
+    @Override
+    public @NotNull Message callToAction(final @NotNull Message message) {
+        final long start = System.nanoTime();
+        final Message result = text.callToAction(message);
+        metrics.recordCall(TextMethod.CALL_TO_ACTION, null, System.nanoTime() - start);
+        return result;
+    }
+
+    @Override
+    public @NotNull Message property(final @NotNull Property<? extends Message> property) {
+        final long start = System.nanoTime();
+        final Message result = text.property(property);
+        metrics.recordCall(TextMethod.PROPERTY, null, System.nanoTime() - start);
+        return result;
+    }
+
+    @Override
+    public @NotNull Message property(
+            final @Nls(capitalization = Title) @NotNull String propertyName,
+            final @NotNull Message value) {
+        final long start = System.nanoTime();
+        final Message result = text.property(propertyName, value);
+        metrics.recordCall(TextMethod.PROPERTY, null, System.nanoTime() - start);
+        return result;
+    }
+
+    @Override
+    public @NotNull Message propertyValue(final @NotNull String value) {
+        final long start = System.nanoTime();
+        final Message result = text.propertyValue(value);
+        metrics.recordCall(TextMethod.PROPERTY, null, System.nanoTime() - start);
+        return result;
+    }
+
+    @Override
+    public @NotNull Message property(
+            final @Nls(capitalization = Title) @NotNull String propertyName,
+            final int value) {
+        final long start = System.nanoTime();
+        final Message result = text.property(propertyName, value);
+        metrics.recordCall(TextMethod.PROPERTY, null, System.nanoTime() - start);
+        return result;
+    }
+
+    @Override
+    public @NotNull Message property(
+            final @Nls(capitalization = Title) @NotNull String propertyName,
+            final long value) {
+        final long start = System.nanoTime();
+        final Message result = text.property(propertyName, value);
+        metrics.recordCall(TextMethod.PROPERTY, null, System.nanoTime() - start);
+        return result;
+    }
+
+    @Override
+    public @NotNull Message property(
+            final @Nls(capitalization = Title) @NotNull String propertyName,
+            final double value) {
+        final long start = System.nanoTime();
+        final Message result = text.property(propertyName, value);
+        metrics.recordCall(TextMethod.PROPERTY, null, System.nanoTime() - start);
+        return result;
+    }
+
+    @Override
+    public @NotNull @Unmodifiable List<@NotNull Message> propertyGroup(
+            final @Nls(capitalization = Title) @NotNull String propertyGroupName,
+            final @NotNull Collection<@NotNull Property<? extends Message>> properties) {
+        final long start = System.nanoTime();
+        final List<Message> result = text.propertyGroup(propertyGroupName, properties);
+        metrics.recordCall(TextMethod.PROPERTY_GROUP, null, System.nanoTime() - start);
+        return result;
+    }
+
+    @Override
+    public @NotNull @Unmodifiable List<@NotNull Message> propertyGroup(
+            final @NotNull PropertyGroup<? extends Message> propertyGroup) {
+        final long start = System.nanoTime();
+        final List<Message> result = text.propertyGroup(propertyGroup);
+        metrics.recordCall(TextMethod.PROPERTY_GROUP, null, System.nanoTime() - start);
+        return result;
+    }
+
+    @Override
+    public @NotNull Stream<@NotNull Message> propertyGroupStream(
+            final @Nls(capitalization = Title) @NotNull String propertyGroupName,
+            final @NotNull Collection<@NotNull Property<? extends Message>> properties) {
+        final long start = System.nanoTime();
+        final Stream<Message> lines = text.propertyGroupStream(propertyGroupName, properties);
+        final TimedSpliterator timedLines =
+                new TimedSpliterator(lines.spliterator(), System.nanoTime() - start);
+        return StreamSupport.stream(timedLines, false).onClose(lines::close);
+    }
+
+    @Override
+    public @NotNull @Unmodifiable List<@NotNull Message> propertyGroupPage(
+            final @Nls(capitalization = Title) @NotNull String propertyGroupName,
+            final @NotNull Collection<@NotNull Property<? extends Message>> properties,
+            final int page,
+            final int pageSize) {
+        final long start = System.nanoTime();
+        final List<Message> result = text.propertyGroupPage(propertyGroupName, properties, page,
+                pageSize);
+        metrics.recordCall(TextMethod.PROPERTY_GROUP_PAGE, null, System.nanoTime() - start);
+        return result;
+    }
+
+    @Override
+    public @NotNull @Unmodifiable List<@NotNull Message> properties(
+            final @NotNull Collection<@NotNull Property<? extends Message>> properties) {
+        final long start = System.nanoTime();
+        final List<Message> result = text.properties(properties);
+        metrics.recordCall(TextMethod.PROPERTIES, null, System.nanoTime() - start);
+        return result;
+    }
+
+    @Override
+    public @NotNull @Unmodifiable List<@NotNull List<@NotNull Message>> propertyGroups(
+            final @NotNull Map<@NotNull String,
+                    ? extends @NotNull Collection<@NotNull Property<? extends Message>>>
+                    propertyGroups) {
+        final long start = System.nanoTime();
+        final List<List<Message>> result = text.propertyGroups(propertyGroups);
+        metrics.recordCall(TextMethod.PROPERTY_GROUPS, null, System.nanoTime() - start);
+        return result;
+    }
+
+    /**
+     * A spliterator recording the time taken by the decorated spliterator to produce its
+     * elements, once it has been exhausted.
+     * <p>
+     * Only the time spent in the decorated spliterator is measured, not the time spent by the
+     * consumer of the stream.
+     *
+     * @author Sparky983
+     */
+    private final class TimedSpliterator implements Spliterator<Message>,
+            Consumer<Message> {
+
+        private final Spliterator<Message> lines;
+        private long durationNanos;
+        private boolean recorded;
+        private Message line;
+
+        /**
+         * Constructs a new {@code TimedSpliterator}.
+         *
+         * @author Sparky983
+         * @param lines The spliterator to time.
+         * @param durationNanos The time already taken to create the spliterator.
+         */
+        TimedSpliterator(final @NotNull Spliterator<Message> lines, final long durationNanos) {
+            this.lines = lines;
+            this.durationNanos = durationNanos;
+        }
+
+        @Override
+        public void accept(final Message line) {
+            this.line = line;
+        }
+
+        @Override
+        public boolean tryAdvance(final @NotNull Consumer<? super Message> action) {
+            final long start = System.nanoTime();
+            final boolean advanced = lines.tryAdvance(this);
+            durationNanos += System.nanoTime() - start;
+
+            if (!advanced) {
+                if (!recorded) {
+                    recorded = true;
+                    metrics.recordCall(TextMethod.PROPERTY_GROUP_STREAM, null, durationNanos);
+                }
+                return false;
+            }
+
+            final Message next = line;
+            line = null;
+            action.accept(next);
+            return true;
+        }
+
+        @Override
+        public @Nullable Spliterator<Message> trySplit() {
+            return null;
+        }
+
+        @Override
+        public long estimateSize() {
+            return lines.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return lines.characteristics() & ~Spliterator.CONCURRENT;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2022 OreField
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.orefield.text.metrics;
+
+import net.orefield.text.Category;
+
+import org.jetbrains.annotations.NonNls;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * {@link TextMetrics} that ignore everything recorded.
+ *
+ * @author Sparky983
+ * @see TextMetrics#noop()
+ */
+final class NoopTextMetrics implements TextMetrics {
+
+    static final NoopTextMetrics INSTANCE = new NoopTextMetrics();
+
+    private NoopTextMetrics() {
+    }
+
+    @Override
+    public void recordCall(final @NotNull TextMethod method,
+            final @Nullable Category category,
+            final long durationNanos) {
+    }
+
+    @Override
+    public void recordCacheLookup(final @NonNls @NotNull String cacheName,
+            final @Nullable Category category,
+            final boolean hit) {
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2022 OreField
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.orefield.text.metrics;
+
+import net.orefield.text.Text;
+
+/**
+ * The methods of {@link Text}, used to break metrics down by method.
+ *
+ * @author Sparky983
+ * @see TextMetrics
+ * @since 1.0.3
+ */
+public enum TextMethod {
+
+    /**
+     * {@link Text#title(String)} and {@link Text#title(net.orefield.text.Category)}.
+     *
+     * @since 1.0.3
+     */
+    TITLE,
+
+    /**
+     * {@link Text#orefield()}.
+     *
+     * @since 1.0.3
+     */
+    OREFIELD,
+
+    /**
+     * {@link Text#information(net.orefield.text.Category, Object)}.
+     *
+     * @since 1.0.3
+     */
+    INFORMATION,
+
+    /**
+     * {@link Text#error(Object)}.
+     *
+     * @since 1.0.3
+     */
+    ERROR,
+
+    /**
+     * {@link Text#warning(Object)}.
+     *
+     * @since 1.0.3
+     */
+    WARNING,
+
+    /**
+     * {@link Text#callToAction(Object)}.
+     *
+     * @since 1.0.3
+     */
+    CALL_TO_ACTION,
+
+    /**
+     * {@link Text#property(net.orefield.text.Property)}, {@link Text#property(String, Object)},
+     * the numeric {@link Text#property(String, long) property} methods and
+     * {@link Text#propertyValue(String)}.
+     *
+     * @since 1.0.3
+     */
+    PROPERTY,
+
+    /**
+     * {@link Text#propertyGroup(String, java.util.Collection)}.
+     *
+     * @since 1.0.3
+     */
+    PROPERTY_GROUP,
+
+    /**
+     * {@link Text#propertyGroupStream(String, java.util.Collection)}.
+     * <p>
+     * As the stream is lazy, the call is recorded once the stream has been fully consumed, with
+     * the time taken to create the stream and render its lines. Streams that aren't fully
+     * consumed aren't recorded.
+     *
+     * @since 1.0.3
+     */
+    PROPERTY_GROUP_STREAM,
+
+    /**
+     * {@link Text#propertyGroupPage(String, java.util.Collection, int, int)}.
+     *
+     * @since 1.0.3
+     */
+    PROPERTY_GROUP_PAGE,
+
+    /**
+     * {@link Text#properties(java.util.Collection)}.
+     *
+     * @since 1.0.3
+     */
+    PROPERTIES,
+
+    /**
+     * {@link Text#propertyGroups(java.util.Map)}.
+     *
+     * @since 1.0.3
+     */
+    PROPERTY_GROUPS
+}
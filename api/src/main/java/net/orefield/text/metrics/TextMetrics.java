@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2022 OreField
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.orefield.text.metrics;
+
+import net.orefield.text.Category;
+
+import org.jetbrains.annotations.NonNls;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A service provider interface for recording metrics about rendering messages.
+ * <p>
+ * Implement this to bridge OreField Text to a metrics library. Calls are made on the thread that
+ * rendered the message, often on a hot path, so implementations must be thread-safe and should
+ * be cheap (for example incrementing a striped counter or recording into a histogram).
+ *
+ * @author Sparky983
+ * @see InstrumentedText
+ * @since 1.0.3
+ */
+public interface TextMetrics {
+
+    /**
+     * Returns metrics that ignore everything recorded.
+     *
+     * @author Sparky983
+     * @return The metrics.
+     * @since 1.0.3
+     */
+    static @NotNull TextMetrics noop() {
+        return NoopTextMetrics.INSTANCE;
+    }
+
+    /**
+     * Records a call to a {@link net.orefield.text.Text} method.
+     *
+     * @author Sparky983
+     * @param method The method.
+     * @param category The category of the message, or {@code null} if the method doesn't have a
+     *                 category.
+     * @param durationNanos How long the call took, in nanoseconds.
+     * @since 1.0.3
+     */
+    void recordCall(@NotNull TextMethod method, @Nullable Category category, long durationNanos);
+
+    /**
+     * Records a lookup in a cache of a {@link net.orefield.text.Text} implementation.
+     * <p>
+     * The default implementation does nothing.
+     *
+     * @author Sparky983
+     * @param cacheName The name of the cache.
+     * @param category The category the lookup was for, or {@code null} if the cache isn't keyed
+     *                 by category.
+     * @param hit Whether the lookup was a cache hit.
+     * @since 1.0.3
+     */
+    default void recordCacheLookup(@NonNls @NotNull String cacheName,
+            @Nullable Category category,
+            boolean hit) {
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2022 OreField
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.orefield.text.util;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * A bounded, thread-safe cache of values created by a factory.
+ * <p>
+ * Once {@link #maximumSize} entries have been cached, further keys are still created but are no
+ * longer cached, so the cache can never grow past its bound. Lookups of cached keys are lock-free.
+ * <p>
+ * The cache never locks: lookups only read the underlying
+ * {@link ConcurrentHashMap}, and the bound is enforced by reserving a slot with a compare-and-set
+ * before a value is inserted. If several threads miss the same key at once, each may create a
+ * value, but only one is cached and every thread returns the cached one, so all threads observe
+ * the same value for a key once it is cached.
+ *
+ * @author Sparky983
+ * @param <K> The key type.
+ * @param <V> The value type.
+ * @since 1.0.3
+ */
+public final class BoundedCache<K, V> {
+
+    private final ConcurrentMap<K, V> values = new ConcurrentHashMap<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final int maximumSize;
+    private final Function<? super K, ? extends V> factory;
+    private final Listener<? super K> listener;
+
+    /**
+     * Constructs a new {@code BoundedCache} with the specified {@code maximumSize} and
+     * {@code factory}.
+     *
+     * @author Sparky983
+     * @param maximumSize The maximum amount of cached values.
+     * @param factory The factory used to create the value for a key. This must not return
+     *                {@code null}.
+     * @throws IllegalArgumentException if {@code maximumSize} is negative.
+     * @throws NullPointerException if {@code factory} is {@code null}.
+     * @since 1.0.3
+     */
+    public BoundedCache(final int maximumSize,
+            final @NotNull Function<? super K, ? extends V> factory) {
+        this(maximumSize, factory, (key, hit) -> {});
+    }
+
+    /**
+     * Constructs a new {@code BoundedCache} with the specified {@code maximumSize},
+     * {@code factory} and {@code listener}.
+     *
+     * @author Sparky983
+     * @param maximumSize The maximum amount of cached values.
+     * @param factory The factory used to create the value for a key. This must not return
+     *                {@code null}.
+     * @param listener The listener notified of every lookup.
+     * @throws IllegalArgumentException if {@code maximumSize} is negative.
+     * @throws NullPointerException if {@code factory} or {@code listener} are {@code null}.
+     * @since 1.0.3
+     */
+    public BoundedCache(final int maximumSize,
+            final @NotNull Function<? super K, ? extends V> factory,
+            final @NotNull Listener<? super K> listener) {
+        Preconditions.checkArgument(maximumSize >= 0, "[maximumSize] cannot be negative");
+
+        this.maximumSize = maximumSize;
+        this.factory = Preconditions.checkNotNull(factory, "factory");
+        this.listener = Preconditions.checkNotNull(listener, "listener");
+    }
+
+    /**
+     * Returns the value for the specified {@code key}, creating it if it isn't cached.
+     *
+     * @author Sparky983
+     * @param key The key.
+     * @return The value.
+     * @since 1.0.3
+     */
+    @Contract(pure = true)
+    public @NotNull V get(final @NotNull K key) {
+        final V cached = values.get(key);
+        listener.onLookup(key, cached != null);
+        if (cached != null) {
+            return cached;
+        }
+
+        final V value = factory.apply(key);
+        if (reserveSlot()) {
+            final V previous = values.putIfAbsent(key, value);
+            if (previous != null) {
+                size.decrementAndGet();
+                return previous;
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reserves a slot for a new value, unless the cache is full.
+     *
+     * @author Sparky983
+     * @return {@code true} if a slot was reserved, otherwise {@code false}.
+     */
+    private boolean reserveSlot() {
+        while (true) {
+            final int current = size.get();
+            if (current >= maximumSize) {
+                return false;
+            }
+            if (size.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Returns the amount of cached values.
+     *
+     * @author Sparky983
+     * @return The size.
+     * @since 1.0.3
+     */
+    @Contract(pure = true)
+    public int size() {
+        return size.get();
+    }
+
+    /**
+     * A listener notified of every lookup of a {@link BoundedCache}.
+     *
+     * @author Sparky983
+     * @param <K> The key type.
+     * @since 1.0.3
+     */
+    @FunctionalInterface
+    public interface Listener<K> {
+
+        /**
+         * Called when a key is looked up.
+         *
+         * @author Sparky983
+         * @param key The key.
+         * @param hit Whether the value was already cached.
+         * @since 1.0.3
+         */
+        void onLookup(@NotNull K key, boolean hit);
+    }
+}
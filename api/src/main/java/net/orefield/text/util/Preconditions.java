@@ -102,4 +102,30 @@ public final class Preconditions {
         }
         return t;
     }
+
+    /**
+     * Checks that the provided element of an argument is not {@code null}.
+     * <p>
+     * Unlike {@link #checkNotNull(Object, String)}, the error message is only built if the check
+     * fails, so this is suitable for checking every element of a large collection.
+     *
+     * @author Sparky983
+     * @param t The element.
+     * @param parameterName The parameter name of the argument containing the element.
+     * @param index The index of the element.
+     * @return The element if it is not {@code null}.
+     * @param <T> The type of the element.
+     * @throws NullPointerException if {@code t} is {@code null}.
+     * @since 1.0.3
+     */
+    @Contract(value = "null, _, _ -> fail; !null, _, _ -> param1", pure = true)
+    public static <T> @NotNull T checkElementNotNull(final @Nullable T t,
+            final @NonNls @Nullable String parameterName,
+            final int index) {
+        if (t == null) {
+            throw new NullPointerException("[" + parameterName + "[" + index + "]] cannot be "
+                    + "null");
+        }
+        return t;
+    }
 }
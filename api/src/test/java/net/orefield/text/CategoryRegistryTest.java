@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2022 OreField
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.orefield.text;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.List;
+
+@SuppressWarnings("ConstantConditions")
+class CategoryRegistryTest {
+
+    @Test
+    void register_ReturnsSameInstance_WhenNameRegistered() {
+        final Category category = CategoryRegistry.register("REGISTRY_SAME", "Registry Same");
+
+        assertSame(category, CategoryRegistry.register("REGISTRY_SAME", "Registry Same"));
+        assertSame(category, Category.of("REGISTRY_SAME", "Registry Same"));
+        assertSame(Category.CHAT, Category.of("CHAT", "CHAT"));
+    }
+
+    @Test
+    void register_Fails_WhenFriendlyNameDiffers() {
+        CategoryRegistry.register("REGISTRY_CONFLICT", "Registry Conflict");
+
+        assertThrows(IllegalArgumentException.class,
+                () -> CategoryRegistry.register("REGISTRY_CONFLICT", "Something Else"));
+    }
+
+    @Test
+    void of_ReturnsUnregisteredCategory_WhenFriendlyNameDiffers() {
+        final Category category = Category.of("CHAT", "Chat");
+
+        assertNotSame(Category.CHAT, category);
+        assertEquals("CHAT", category.getName());
+        assertEquals("Chat", category.toString());
+        assertEquals(-1, category.getOrdinal());
+        assertSame(Category.CHAT, CategoryRegistry.get("CHAT"));
+    }
+
+    @Test
+    void of_ReturnsEqualCategories_WhenUnregistered() {
+        final Category category = Category.of("CHAT", "Chat");
+
+        assertEquals(Category.of("CHAT", "Chat"), category);
+        assertEquals(Category.of("CHAT", "Chat").hashCode(), category.hashCode());
+        assertNotEquals(Category.of("CHAT", "Other"), category);
+        assertNotEquals(Category.CHAT, category);
+        assertNotEquals(category, Category.CHAT);
+    }
+
+    @Test
+    void register_KeepsBuiltInOrdinals_WhenCalledBeforeCategoryIsInitialized()
+            throws ReflectiveOperationException, IOException {
+        final URL classes =
+                CategoryRegistry.class.getProtectionDomain().getCodeSource().getLocation();
+        try (URLClassLoader loader = new URLClassLoader(new URL[] {classes}, null)) {
+            final Class<?> registry =
+                    Class.forName(CategoryRegistry.class.getName(), true, loader);
+            final Class<?> category = Class.forName(Category.class.getName(), false, loader);
+            final Method getOrdinal = category.getMethod("getOrdinal");
+
+            final Object custom = registry.getMethod("register", String.class, String.class)
+                    .invoke(null, "REGISTRY_EARLY", "Registry Early");
+
+            assertEquals(0, getOrdinal.invoke(category.getField("CHAT").get(null)));
+            assertEquals(6, getOrdinal.invoke(category.getField("OREFIELD").get(null)));
+            assertEquals(7, getOrdinal.invoke(custom));
+        }
+    }
+
+    @Test
+    void getOrdinal_ReturnsMinusOne_WhenNotImplemented() {
+        final Category category = new Category() {
+            @Override
+            public @NotNull String getName() {
+                return "CUSTOM";
+            }
+
+            @Override
+            public @NotNull String toString() {
+                return "Custom";
+            }
+        };
+
+        assertEquals(-1, category.getOrdinal());
+    }
+
+    @Test
+    void register_Fails_WhenArgumentsNull() {
+        assertThrows(NullPointerException.class,
+                () -> CategoryRegistry.register(null, "Friendly Name"));
+        assertThrows(NullPointerException.class,
+                () -> CategoryRegistry.register("NAME", null));
+    }
+
+    @Test
+    void get_ReturnsCategory_WhenNameRegistered() {
+        assertSame(Category.OREFIELD, CategoryRegistry.get("OREFIELD"));
+        assertSame(Category.DEV, CategoryRegistry.get("DEV"));
+        assertNull(CategoryRegistry.get("REGISTRY_NOT_REGISTERED"));
+    }
+
+    @Test
+    void get_ReturnsCategory_WhenOrdinalRegistered() {
+        final Category category = CategoryRegistry.register("REGISTRY_ORDINAL", "Registry Ordinal");
+
+        assertSame(category, CategoryRegistry.get(category.getOrdinal()));
+        assertThrows(IndexOutOfBoundsException.class, () -> CategoryRegistry.get(-1));
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> CategoryRegistry.get(CategoryRegistry.size()));
+    }
+
+    @Test
+    void categories_AreOrderedByOrdinal() {
+        CategoryRegistry.register("REGISTRY_ORDERED", "Registry Ordered");
+
+        final List<Category> categories = CategoryRegistry.categories();
+
+        assertEquals(CategoryRegistry.size(), categories.size());
+        for (int i = 0; i < categories.size(); i++) {
+            assertEquals(i, categories.get(i).getOrdinal());
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2022 OreField
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.orefield.text;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("ConstantConditions")
+class PropertyGroupTest {
+
+    @Test
+    void build_ReturnsPropertiesInOrder() {
+        final PropertyGroup<String> group = PropertyGroup.<String>builder("Player")
+                .add("Name", "Sparky983")
+                .add("Rank", "Owner")
+                .build();
+
+        assertEquals("Player", group.getName());
+        assertEquals(2, group.size());
+        assertEquals("Name", group.getPropertyName(0));
+        assertEquals("Sparky983", group.getValue(0));
+        assertEquals("Rank", group.getPropertyName(1));
+        assertEquals("Owner", group.getValue(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> group.getValue(2));
+    }
+
+    @Test
+    void build_Grows_WhenManyPropertiesAdded() {
+        final PropertyGroup.Builder<Integer> builder = PropertyGroup.builder("Numbers");
+        for (int i = 0; i < 100; i++) {
+            builder.add("Number " + i, i);
+        }
+
+        final PropertyGroup<Integer> group = builder.build();
+
+        assertEquals(100, group.size());
+        assertEquals("Number 99", group.getPropertyName(99));
+        assertEquals(99, group.getValue(99));
+    }
+
+    @Test
+    void reset_RemovesProperties_WithoutAffectingBuiltGroups() {
+        final PropertyGroup.Builder<String> builder = PropertyGroup.<String>builder("Player")
+                .add("Name", "Sparky983");
+        final PropertyGroup<String> first = builder.build();
+
+        final PropertyGroup<String> second = builder.reset()
+                .name("Server")
+                .add("Players", "12")
+                .build();
+
+        assertEquals(1, first.size());
+        assertEquals("Player", first.getName());
+        assertEquals("Sparky983", first.getValue(0));
+        assertEquals("Server", second.getName());
+        assertEquals("Players", second.getPropertyName(0));
+        assertEquals(0, builder.reset().build().size());
+    }
+
+    @Test
+    void builder_ThrowsNpe_WhenArgumentsAreNull() {
+        final PropertyGroup.Builder<String> builder = PropertyGroup.builder("Player");
+
+        assertThrows(NullPointerException.class, () -> PropertyGroup.builder(null));
+        assertThrows(NullPointerException.class, () -> builder.name(null));
+        assertThrows(NullPointerException.class, () -> builder.add(null, "Sparky983"));
+        assertThrows(NullPointerException.class, () -> builder.add("Name", null));
+    }
+
+    @Test
+    void equals_ComparesNameAndProperties() {
+        final PropertyGroup.Builder<String> builder = PropertyGroup.<String>builder("Player")
+                .add("Name", "Sparky983");
+
+        assertEquals(builder.build(), builder.build());
+        assertEquals(builder.build().hashCode(), builder.build().hashCode());
+        assertNotEquals(builder.build(), builder.name("Other").build());
+        assertNotEquals(builder.build(), builder.add("Rank", "Owner").build());
+    }
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2022 OreField
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.orefield.text.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import net.orefield.text.Category;
+import net.orefield.text.Property;
+import net.orefield.text.Text;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@SuppressWarnings("ConstantConditions")
+class InstrumentedTextTest {
+
+    private final RecordingTextMetrics metrics = new RecordingTextMetrics();
+    private final Text<String> text = InstrumentedText.wrap(new StringText(), metrics);
+
+    @Test
+    void wrap_Fails_WhenArgumentsNull() {
+        assertThrows(NullPointerException.class,
+                () -> InstrumentedText.wrap(null, TextMetrics.noop()));
+        assertThrows(NullPointerException.class,
+                () -> InstrumentedText.wrap(new StringText(), null));
+    }
+
+    @Test
+    void methods_ReturnDelegateResult() {
+        assertEquals("CHAT -> Hello", text.information(Category.CHAT, "Hello"));
+        assertEquals("Error: Oops", text.error("Oops"));
+        assertEquals("Players: 20", text.property("Players", 20));
+        assertEquals("TPS: 19.5", text.property("TPS", 19.5));
+        assertEquals(
+                Arrays.asList("SERVER", "  TPS: 20"),
+                text.propertyGroup("SERVER",
+                        Collections.singletonList(Property.of("TPS", "20")))
+        );
+    }
+
+    @Test
+    void methods_RecordCalls() {
+        text.title("SERVER");
+        text.title(Category.STAFF);
+        text.orefield();
+        text.information(Category.CHAT, "Hello");
+        text.error("Oops");
+        text.warning("Careful");
+        text.callToAction("CLICK HERE");
+        text.property(Property.of("Name", "overlapse"));
+        text.property("Name", "overlapse");
+        text.property("Players", 20);
+        text.property("TPS", 19.5);
+        text.propertyValue("20");
+        final List<Property<? extends String>> properties =
+                Collections.singletonList(Property.of("TPS", "20"));
+        text.propertyGroup("SERVER", properties);
+        text.propertyGroupStream("SERVER", properties).collect(Collectors.toList());
+        text.propertyGroupPage("SERVER", properties, 0, 10);
+        text.properties(properties);
+        text.propertyGroups(Collections.singletonMap("SERVER", properties));
+
+        assertEquals(
+                Arrays.asList(
+                        "TITLE null",
+                        "TITLE STAFF",
+                        "OREFIELD null",
+                        "INFORMATION CHAT",
+                        "ERROR null",
+                        "WARNING null",
+                        "CALL_TO_ACTION null",
+                        "PROPERTY null",
+                        "PROPERTY null",
+                        "PROPERTY null",
+                        "PROPERTY null",
+                        "PROPERTY null",
+                        "PROPERTY_GROUP null",
+                        "PROPERTY_GROUP_STREAM null",
+                        "PROPERTY_GROUP_PAGE null",
+                        "PROPERTIES null",
+                        "PROPERTY_GROUPS null"
+                ),
+                metrics.calls
+        );
+        assertTrue(metrics.durations.stream().allMatch((duration) -> duration >= 0));
+    }
+
+    @Test
+    void propertyGroupStream_RecordsCall_WhenConsumed() {
+        final List<Property<? extends String>> properties =
+                Collections.singletonList(Property.of("TPS", "20"));
+
+        final Stream<String> lines = text.propertyGroupStream("SERVER", properties);
+        assertEquals(Collections.emptyList(), metrics.calls);
+
+        assertEquals(Arrays.asList("SERVER", "  TPS: 20"), lines.collect(Collectors.toList()));
+        assertEquals(Collections.singletonList("PROPERTY_GROUP_STREAM null"), metrics.calls);
+    }
+
+    @Test
+    void methods_DoNotRecordCalls_WhenDelegateThrows() {
+        assertThrows(NullPointerException.class, () -> text.error(null));
+
+        assertEquals(Collections.emptyList(), metrics.calls);
+    }
+
+    private static final class RecordingTextMetrics implements TextMetrics {
+
+        private final List<String> calls = new ArrayList<>();
+        private final List<Long> durations = new ArrayList<>();
+
+        @Override
+        public void recordCall(final @NotNull TextMethod method,
+                final @Nullable Category category,
+                final long durationNanos) {
+            calls.add(method + " " + (category == null ? null : category.getName()));
+            durations.add(durationNanos);
+        }
+    }
+
+    private static final class StringText implements Text<String> {
+
+        @Override
+        public @NotNull String title(final @NotNull String title) {
+            return title;
+        }
+
+        @Override
+        public @NotNull String title(final @NotNull Category category) {
+            return category.toString();
+        }
+
+        @Override
+        public @NotNull String orefield() {
+            return "OREFIELD";
+        }
+
+        @Override
+        public @NotNull String information(final @NotNull Category category,
+                final @NotNull String message) {
+            return category.getName() + " -> " + message;
+        }
+
+        @Override
+        public @NotNull String error(final @NotNull String message) {
+            if (message == null) {
+                throw new NullPointerException();
+            }
+            return "Error: " + message;
+        }
+
+        @Override
+        public @NotNull String warning(final @NotNull String message) {
+            return "Warning: " + message;
+        }
+
+        @Override
+        public @NotNull String callToAction(final @NotNull String message) {
+            return message;
+        }
+
+        @Override
+        public @NotNull String property(final @NotNull Property<? extends String> property) {
+            return property(property.getPropertyName(), property.getValue());
+        }
+
+        @Override
+        public @NotNull String property(final @NotNull String propertyName,
+                final @NotNull String value) {
+            return propertyName + ": " + value;
+        }
+
+        @Override
+        public @NotNull String propertyValue(final @NotNull String value) {
+            return value;
+        }
+
+        @Override
+        public @NotNull List<@NotNull String> propertyGroup(
+                final @NotNull String propertyGroupName,
+                final @NotNull Collection<@NotNull Property<? extends String>> properties) {
+            final List<String> lines = new ArrayList<>();
+            lines.add(propertyGroupName);
+            for (final Property<? extends String> property : properties) {
+                lines.add(INDENT + property(property));
+            }
+            return lines;
+        }
+    }
+}
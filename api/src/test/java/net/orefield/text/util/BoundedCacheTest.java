@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2022 OreField
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.orefield.text.util;
+
+import static net.orefield.text.util.ConcurrentTesting.concurrently;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+@SuppressWarnings("ConstantConditions")
+class BoundedCacheTest {
+
+    @Test
+    void get_ReturnsCachedValue() {
+        final BoundedCache<String, StringBuilder> cache = new BoundedCache<>(16,
+                StringBuilder::new);
+
+        final StringBuilder value = cache.get("SERVER");
+
+        assertEquals("SERVER", value.toString());
+        assertSame(value, cache.get("SERVER"));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void get_DoesNotCache_WhenFull() {
+        final BoundedCache<String, StringBuilder> cache = new BoundedCache<>(1,
+                StringBuilder::new);
+
+        cache.get("SERVER");
+        final StringBuilder first = cache.get("LOBBY");
+        final StringBuilder second = cache.get("LOBBY");
+
+        assertEquals("LOBBY", first.toString());
+        assertNotSame(first, second);
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void get_NotifiesListener() {
+        final List<String> lookups = new ArrayList<>();
+        final BoundedCache<String, StringBuilder> cache = new BoundedCache<>(16,
+                StringBuilder::new,
+                (key, hit) -> lookups.add(key + (hit ? " hit" : " miss")));
+
+        cache.get("SERVER");
+        cache.get("SERVER");
+        cache.get("LOBBY");
+
+        assertEquals(Arrays.asList("SERVER miss", "SERVER hit", "LOBBY miss"), lookups);
+    }
+
+    @Test
+    void get_ReturnsSameValue_WhenKeyIsMissedConcurrently() throws Exception {
+        final BoundedCache<String, Object> cache = new BoundedCache<>(64, (key) -> new Object());
+
+        final List<Object> values = concurrently(8, () -> cache.get("SERVER"));
+
+        for (final Object value : values) {
+            assertSame(cache.get("SERVER"), value);
+        }
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void get_StaysBounded_WhenCalledConcurrently() throws Exception {
+        final BoundedCache<Integer, Object> cache = new BoundedCache<>(64, (key) -> new Object());
+
+        concurrently(8, () -> {
+            for (int key = 0; key < 1000; key++) {
+                cache.get(key);
+            }
+            return null;
+        });
+
+        int cached = 0;
+        for (int key = 0; key < 1000; key++) {
+            if (cache.get(key) == cache.get(key)) {
+                cached++;
+            }
+        }
+        assertEquals(64, cached);
+        assertEquals(64, cache.size());
+    }
+
+    @Test
+    void new_Fails_WhenArgumentsInvalid() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new BoundedCache<String, StringBuilder>(-1, StringBuilder::new));
+        assertThrows(NullPointerException.class,
+                () -> new BoundedCache<String, StringBuilder>(1, null));
+        assertThrows(NullPointerException.class,
+                () -> new BoundedCache<String, StringBuilder>(1, StringBuilder::new, null));
+    }
+}
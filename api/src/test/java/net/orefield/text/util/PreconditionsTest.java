@@ -75,4 +75,18 @@ class PreconditionsTest {
         assertThrows(NullPointerException.class, () -> Preconditions.checkNotNull(null));
         assertThrows(NullPointerException.class, () -> Preconditions.checkNotNull(null, "object"));
     }
+
+    @Test
+    void checkElementNotNull_ReturnsElement_WhenElementIsNotNull() {
+        final Object object = new Object();
+
+        assertSame(object, Preconditions.checkElementNotNull(object, "objects", 0));
+    }
+
+    @Test
+    void checkElementNotNull_Fails_WhenElementIsNull() {
+        final Throwable thrown = assertThrows(NullPointerException.class,
+                () -> Preconditions.checkElementNotNull(null, "objects", 3));
+        assertEquals("[objects[3]] cannot be null", thrown.getMessage());
+    }
 }
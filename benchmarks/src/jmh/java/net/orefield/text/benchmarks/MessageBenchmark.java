@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2022 OreField
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.orefield.text.benchmarks;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+import net.orefield.text.Category;
+import net.orefield.text.Property;
+import net.orefield.text.adventure.AdventureText;
+import net.orefield.text.adventure.AdventureTexts;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the single message methods of {@link AdventureText}.
+ * <p>
+ * The {@link #size} is the number of children in the message being wrapped.
+ *
+ * @author Sparky983
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MessageBenchmark {
+
+    @Param({"1", "10", "100"})
+    public int size;
+
+    private final AdventureText text = AdventureTexts.adventureText();
+
+    private Component message;
+    private Property<Component> property;
+
+    @Setup
+    public void setup() {
+        final TextComponent.Builder builder = Component.text();
+        for (int i = 0; i < size; i++) {
+            builder.append(Component.text("word" + i + ' '));
+        }
+        message = builder.build();
+        property = Property.of("Player", message);
+    }
+
+    @Benchmark
+    public Component information() {
+        return text.information(Category.NETWORK, message);
+    }
+
+    @Benchmark
+    public Component error() {
+        return text.error(message);
+    }
+
+    @Benchmark
+    public Component warning() {
+        return text.warning(message);
+    }
+
+    @Benchmark
+    public Component callToAction() {
+        return text.callToAction(message);
+    }
+
+    @Benchmark
+    public Component property() {
+        return text.property(property);
+    }
+
+    @Benchmark
+    public Component property_NameAndValue() {
+        return text.property("Player", message);
+    }
+}
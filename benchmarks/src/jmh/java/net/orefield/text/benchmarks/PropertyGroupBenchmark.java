@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2022 OreField
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.orefield.text.benchmarks;
+
+import net.kyori.adventure.text.Component;
+import net.orefield.text.Property;
+import net.orefield.text.adventure.AdventureText;
+import net.orefield.text.adventure.AdventureTexts;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Benchmarks for {@link AdventureText#propertyGroup(String, Collection)}.
+ * <p>
+ * The {@link #size} is the number of properties in the group. The page and stream benchmarks
+ * only render the first {@link #PAGE_SIZE} properties.
+ *
+ * @author Sparky983
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PropertyGroupBenchmark {
+
+    private static final int PAGE_SIZE = 10;
+
+    @Param({"1", "10", "100"})
+    public int size;
+
+    private final AdventureText text = AdventureTexts.adventureText();
+
+    private Collection<Property<? extends Component>> properties;
+
+    @Setup
+    public void setup() {
+        final List<Property<? extends Component>> properties = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            properties.add(Property.of("Property " + i, Component.text(i)));
+        }
+        this.properties = properties;
+    }
+
+    @Benchmark
+    public List<Component> propertyGroup() {
+        return text.propertyGroup("SERVER", properties);
+    }
+
+    @Benchmark
+    public List<Component> propertyGroupPage() {
+        return text.propertyGroupPage("SERVER", properties, 0, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<Component> propertyGroupStream() {
+        return text.propertyGroupStream("SERVER", properties)
+                .limit(PAGE_SIZE + 1)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,302 @@
+/*
+ * Copyright (c) 2022 OreField
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.orefield.text.broadcast;
+
+import net.kyori.adventure.audience.Audience;
+import net.kyori.adventure.text.Component;
+import net.orefield.text.Category;
+import net.orefield.text.Text;
+import net.orefield.text.async.AsyncText;
+import net.orefield.text.util.Preconditions;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Delivers a message, rendered once, to many audiences in parallel batches.
+ * <p>
+ * Looping over every player and rendering the message for each of them multiplies the rendering
+ * cost by the amount of players. A broadcaster renders the message once and shares the same
+ * immutable {@link Component} between all audiences, splitting them into batches of
+ * {@link #batchSize} that are delivered on the {@link Executor}.
+ * <p>
+ * At most {@link #maximumPendingBatches} batches are queued or being delivered at once. When the
+ * limit is reached, {@link #broadcast(Component, Collection)} blocks until a batch finishes, so a
+ * slow executor slows down broadcasting instead of queueing an unbounded amount of work.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @author Sparky983
+ * @since 1.0.3
+ */
+public final class Broadcaster {
+
+    /**
+     * The default amount of audiences delivered to per batch.
+     *
+     * @since 1.0.3
+     */
+    public static final int DEFAULT_BATCH_SIZE = 64;
+
+    /**
+     * The default maximum amount of batches queued or being delivered at once.
+     *
+     * @since 1.0.3
+     */
+    public static final int DEFAULT_MAXIMUM_PENDING_BATCHES = 256;
+
+    private final Text<Component> text;
+    private final Executor executor;
+    private final int batchSize;
+    private final int maximumPendingBatches;
+    private final Semaphore pendingBatches;
+
+    /**
+     * Constructs a new {@code Broadcaster} delivering on the specified {@code executor} with the
+     * {@link #DEFAULT_BATCH_SIZE default batch size} and
+     * {@link #DEFAULT_MAXIMUM_PENDING_BATCHES default maximum pending batches}.
+     *
+     * @author Sparky983
+     * @param text The text used to render messages.
+     * @param executor The executor batches are delivered on.
+     * @throws NullPointerException if {@code text} or {@code executor} are {@code null}.
+     * @see #defaultExecutor()
+     * @since 1.0.3
+     */
+    public Broadcaster(final @NotNull Text<Component> text, final @NotNull Executor executor) {
+        this(text, executor, DEFAULT_BATCH_SIZE, DEFAULT_MAXIMUM_PENDING_BATCHES);
+    }
+
+    /**
+     * Constructs a new {@code Broadcaster}.
+     *
+     * @author Sparky983
+     * @param text The text used to render messages.
+     * @param executor The executor batches are delivered on.
+     * @param batchSize The maximum amount of audiences delivered to per batch.
+     * @param maximumPendingBatches The maximum amount of batches queued or being delivered at
+     *                              once.
+     * @throws NullPointerException if {@code text} or {@code executor} are {@code null}.
+     * @throws IllegalArgumentException if {@code batchSize} or {@code maximumPendingBatches}
+     *                                  aren't positive.
+     * @see #defaultExecutor()
+     * @since 1.0.3
+     */
+    public Broadcaster(final @NotNull Text<Component> text,
+            final @NotNull Executor executor,
+            final int batchSize,
+            final int maximumPendingBatches) {
+        Preconditions.checkArgument(batchSize > 0, "[batchSize] must be positive");
+        Preconditions.checkArgument(maximumPendingBatches > 0,
+                "[maximumPendingBatches] must be positive");
+
+        this.text = Preconditions.checkNotNull(text, "text");
+        this.executor = Preconditions.checkNotNull(executor, "executor");
+        this.batchSize = batchSize;
+        this.maximumPendingBatches = maximumPendingBatches;
+        this.pendingBatches = new Semaphore(maximumPendingBatches);
+    }
+
+    /**
+     * Returns a new executor suitable for delivering broadcasts.
+     * <p>
+     * On Java 21 and above this is a virtual thread per task executor. On older versions it is a
+     * fixed thread pool with a thread per available processor. The caller owns the executor and is
+     * responsible for shutting it down.
+     *
+     * @author Sparky983
+     * @return The executor.
+     * @see AsyncText#defaultExecutor()
+     * @since 1.0.3
+     */
+    @Contract(value = "-> new", pure = true)
+    public static @NotNull ExecutorService defaultExecutor() {
+        return AsyncText.defaultExecutor();
+    }
+
+    /**
+     * Renders an {@link Text#information(Category, Object) information} message once and
+     * delivers it to every one of the specified {@code audiences}.
+     *
+     * @author Sparky983
+     * @param category The category.
+     * @param message The message.
+     * @param audiences The audiences.
+     * @return A future completed once the message has been delivered to every audience. If any
+     *         audience threw, it is completed exceptionally with the first exception.
+     * @throws NullPointerException if {@code category}, {@code message} or {@code audiences} are
+     *                              {@code null}.
+     * @since 1.0.3
+     */
+    public @NotNull CompletableFuture<Void> information(final @NotNull Category category,
+            final @NotNull Component message,
+            final @NotNull Collection<? extends @NotNull Audience> audiences) {
+        return broadcast(text.information(category, message), audiences);
+    }
+
+    /**
+     * Delivers an already rendered {@code message} to every one of the specified
+     * {@code audiences}.
+     * <p>
+     * This blocks while {@link #maximumPendingBatches} batches are pending.
+     *
+     * @author Sparky983
+     * @param message The message.
+     * @param audiences The audiences.
+     * @return A future completed once the message has been delivered to every audience. If any
+     *         audience threw, it is completed exceptionally with the first exception, after
+     *         delivering to the rest of the audiences.
+     * @throws NullPointerException if {@code message}, {@code audiences} or any of its elements
+     *                              are {@code null}.
+     * @since 1.0.3
+     */
+    public @NotNull CompletableFuture<Void> broadcast(final @NotNull Component message,
+            final @NotNull Collection<? extends @NotNull Audience> audiences) {
+        Preconditions.checkNotNull(message, "message");
+        Preconditions.checkNotNull(audiences, "audiences");
+
+        final Audience[] targets = audiences.toArray(new Audience[0]);
+        for (int i = 0; i < targets.length; i++) {
+            Preconditions.checkElementNotNull(targets[i], "audiences", i);
+        }
+
+        final CompletableFuture<?>[] batches =
+                new CompletableFuture<?>[(targets.length + batchSize - 1) / batchSize];
+        for (int i = 0; i < batches.length; i++) {
+            final int from = i * batchSize;
+            final int to = Math.min(from + batchSize, targets.length);
+            batches[i] = deliver(message, targets, from, to);
+        }
+
+        return CompletableFuture.allOf(batches);
+    }
+
+    /**
+     * Returns the maximum amount of audiences delivered to per batch.
+     *
+     * @author Sparky983
+     * @return The batch size.
+     * @since 1.0.3
+     */
+    @Contract(pure = true)
+    public int batchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Returns the maximum amount of batches queued or being delivered at once.
+     *
+     * @author Sparky983
+     * @return The maximum amount of pending batches.
+     * @since 1.0.3
+     */
+    @Contract(pure = true)
+    public int maximumPendingBatches() {
+        return maximumPendingBatches;
+    }
+
+    /**
+     * Submits a batch delivering the {@code message} to {@code targets} from {@code from}
+     * (inclusive) to {@code to} (exclusive), waiting for a pending batch permit first.
+     *
+     * @author Sparky983
+     * @param message The message.
+     * @param targets The audiences.
+     * @param from The first index.
+     * @param to The index after the last index.
+     * @return A future completed once the batch has been delivered.
+     */
+    private @NotNull CompletableFuture<Void> deliver(final @NotNull Component message,
+            final @NotNull Audience @NotNull [] targets,
+            final int from,
+            final int to) {
+        final CompletableFuture<Void> batch = new CompletableFuture<>();
+
+        try {
+            pendingBatches.acquire();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            batch.completeExceptionally(e);
+            return batch;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    deliverNow(message, targets, from, to);
+                    batch.complete(null);
+                } catch (final Throwable t) {
+                    batch.completeExceptionally(t);
+                } finally {
+                    pendingBatches.release();
+                }
+            });
+        } catch (final RejectedExecutionException e) {
+            pendingBatches.release();
+            batch.completeExceptionally(e);
+        }
+
+        return batch;
+    }
+
+    /**
+     * Delivers the {@code message} to {@code targets} from {@code from} (inclusive) to {@code to}
+     * (exclusive) on the current thread.
+     *
+     * @author Sparky983
+     * @param message The message.
+     * @param targets The audiences.
+     * @param from The first index.
+     * @param to The index after the last index.
+     * @throws RuntimeException the first exception thrown by an audience, with the rest
+     *                          suppressed.
+     */
+    private static void deliverNow(final @NotNull Component message,
+            final @NotNull Audience @NotNull [] targets,
+            final int from,
+            final int to) {
+        RuntimeException failure = null;
+        for (int i = from; i < to; i++) {
+            try {
+                targets[i].sendMessage(message);
+            } catch (final RuntimeException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+
+        if (failure != null) {
+            throw failure;
+        }
+    }
+}
@@ -0,0 +1,415 @@
+/*
+ * Copyright (c) 2022 OreField
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.orefield.text.broadcast;
+
+import net.kyori.adventure.text.Component;
+import net.orefield.text.Category;
+import net.orefield.text.Text;
+import net.orefield.text.util.Preconditions;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.VisibleForTesting;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Emits {@link Text#error(Object) error} and {@link Text#warning(Object) warning} messages,
+ * suppressing repeats.
+ * <p>
+ * Messages are keyed by their category and content. The first occurrence of a message is
+ * rendered and passed to the sink; repeats within the window after it are only counted. The next
+ * occurrence after the window is emitted again, preceded by a warning summarizing how many times
+ * the message was repeated:
+ * <pre>
+ * DeduplicatingEmitter emitter = new DeduplicatingEmitter(
+ *         AdventureTexts.adventureText(),
+ *         10, TimeUnit.SECONDS,
+ *         1024,
+ *         (message) -&gt; broadcaster.broadcast(message, staff));
+ *
+ * emitter.error(Category.DEV, Component.text("Plugin X threw NullPointerException"));
+ * </pre>
+ * <p>
+ * At most {@code maximumTrackedMessages} messages are tracked; the least recently seen are
+ * forgotten first, after emitting their summary. Call {@link #flush()} periodically to emit the
+ * summaries of messages that stopped repeating.
+ * <p>
+ * This class is thread-safe. Messages are tracked in independently locked stripes by hash, so
+ * threads emitting different messages rarely contend. The sink is called with the lock of a
+ * stripe held, so it should hand the message off rather than do slow work.
+ *
+ * @author Sparky983
+ * @since 1.0.3
+ */
+public final class DeduplicatingEmitter {
+
+    /**
+     * The maximum amount of stripes messages are tracked in. Must be a power of two.
+     */
+    private static final int STRIPES = 16;
+
+    private final Text<Component> text;
+    private final long windowNanos;
+    private final Consumer<? super Component> sink;
+    private final LongSupplier nanoTime;
+
+    private final Stripe[] stripes;
+
+    private final LongAdder emitted = new LongAdder();
+    private final LongAdder suppressed = new LongAdder();
+    private final LongAdder summaries = new LongAdder();
+
+    /**
+     * Constructs a new {@code DeduplicatingEmitter}.
+     *
+     * @author Sparky983
+     * @param text The text used to render messages.
+     * @param window The time repeats of a message are suppressed for after it is emitted.
+     * @param unit The unit of the {@code window}.
+     * @param maximumTrackedMessages The maximum amount of tracked messages.
+     * @param sink The sink rendered messages are passed to.
+     * @throws NullPointerException if {@code text}, {@code unit} or {@code sink} are
+     *                              {@code null}.
+     * @throws IllegalArgumentException if {@code window} is negative or
+     *                                  {@code maximumTrackedMessages} isn't positive.
+     * @since 1.0.3
+     */
+    public DeduplicatingEmitter(final @NotNull Text<Component> text,
+            final long window,
+            final @NotNull TimeUnit unit,
+            final int maximumTrackedMessages,
+            final @NotNull Consumer<? super Component> sink) {
+        this(text, window, unit, maximumTrackedMessages, sink, System::nanoTime);
+    }
+
+    /**
+     * Constructs a new {@code DeduplicatingEmitter} with the specified clock.
+     *
+     * @author Sparky983
+     * @param text The text used to render messages.
+     * @param window The time repeats of a message are suppressed for after it is emitted.
+     * @param unit The unit of the {@code window}.
+     * @param maximumTrackedMessages The maximum amount of tracked messages.
+     * @param sink The sink rendered messages are passed to.
+     * @param nanoTime The clock, like {@link System#nanoTime()}.
+     */
+    @VisibleForTesting
+    DeduplicatingEmitter(final @NotNull Text<Component> text,
+            final long window,
+            final @NotNull TimeUnit unit,
+            final int maximumTrackedMessages,
+            final @NotNull Consumer<? super Component> sink,
+            final @NotNull LongSupplier nanoTime) {
+        Preconditions.checkArgument(window >= 0, "[window] cannot be negative");
+        Preconditions.checkArgument(maximumTrackedMessages > 0,
+                "[maximumTrackedMessages] must be positive");
+        Preconditions.checkNotNull(unit, "unit");
+
+        this.text = Preconditions.checkNotNull(text, "text");
+        this.windowNanos = unit.toNanos(window);
+        this.sink = Preconditions.checkNotNull(sink, "sink");
+        this.nanoTime = nanoTime;
+
+        // Use fewer stripes for small limits, and spread the remainder over the first stripes, so
+        // every stripe can track a message and the stripes never track more than the limit
+        this.stripes = new Stripe[Math.min(STRIPES, Integer.highestOneBit(maximumTrackedMessages))];
+        final int maximumStripeSize = maximumTrackedMessages / stripes.length;
+        final int remainder = maximumTrackedMessages % stripes.length;
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new Stripe(i < remainder ? maximumStripeSize + 1 : maximumStripeSize);
+        }
+    }
+
+    /**
+     * Emits an error message, unless it was already emitted within the window.
+     *
+     * @author Sparky983
+     * @param category The category the message is deduplicated in.
+     * @param message The message.
+     * @return {@code true} if the message was emitted, {@code false} if it was suppressed.
+     * @throws NullPointerException if {@code category} or {@code message} are {@code null}.
+     * @see Text#error(Object)
+     * @since 1.0.3
+     */
+    public boolean error(final @NotNull Category category, final @NotNull Component message) {
+        return emit(category, message, true);
+    }
+
+    /**
+     * Emits a warning message, unless it was already emitted within the window.
+     *
+     * @author Sparky983
+     * @param category The category the message is deduplicated in.
+     * @param message The message.
+     * @return {@code true} if the message was emitted, {@code false} if it was suppressed.
+     * @throws NullPointerException if {@code category} or {@code message} are {@code null}.
+     * @see Text#warning(Object)
+     * @since 1.0.3
+     */
+    public boolean warning(final @NotNull Category category, final @NotNull Component message) {
+        return emit(category, message, false);
+    }
+
+    /**
+     * Emits the summaries of every message repeated since it was last emitted, and forgets
+     * every message whose window has passed.
+     *
+     * @author Sparky983
+     * @since 1.0.3
+     */
+    public void flush() {
+        final long now = nanoTime.getAsLong();
+        for (final Stripe stripe : stripes) {
+            synchronized (stripe) {
+                stripe.values().removeIf((entry) -> {
+                    emitSummary(entry);
+                    return now - entry.windowStart >= windowNanos;
+                });
+            }
+        }
+    }
+
+    /**
+     * Returns the amount of messages emitted, not including summaries.
+     *
+     * @author Sparky983
+     * @return The amount of messages.
+     * @since 1.0.3
+     */
+    @Contract(pure = true)
+    public long emittedCount() {
+        return emitted.sum();
+    }
+
+    /**
+     * Returns the amount of repeats suppressed.
+     *
+     * @author Sparky983
+     * @return The amount of repeats.
+     * @since 1.0.3
+     */
+    @Contract(pure = true)
+    public long suppressedCount() {
+        return suppressed.sum();
+    }
+
+    /**
+     * Returns the amount of repeat summaries emitted.
+     *
+     * @author Sparky983
+     * @return The amount of summaries.
+     * @since 1.0.3
+     */
+    @Contract(pure = true)
+    public long summaryCount() {
+        return summaries.sum();
+    }
+
+    /**
+     * Returns the amount of messages currently tracked.
+     *
+     * @author Sparky983
+     * @return The amount of messages.
+     */
+    @VisibleForTesting
+    int trackedSize() {
+        int tracked = 0;
+        for (final Stripe stripe : stripes) {
+            synchronized (stripe) {
+                tracked += stripe.size();
+            }
+        }
+        return tracked;
+    }
+
+    /**
+     * Emits the specified message, unless it was already emitted within the window.
+     *
+     * @author Sparky983
+     * @param category The category.
+     * @param message The message.
+     * @param error Whether the message is an error, otherwise it is a warning.
+     * @return {@code true} if the message was emitted, {@code false} if it was suppressed.
+     */
+    private boolean emit(final @NotNull Category category,
+            final @NotNull Component message,
+            final boolean error) {
+        Preconditions.checkNotNull(category, "category");
+        Preconditions.checkNotNull(message, "message");
+
+        final Key key = new Key(category, message, error);
+        final Stripe stripe = stripes[(key.hash ^ (key.hash >>> 16)) & (stripes.length - 1)];
+        final long now = nanoTime.getAsLong();
+
+        synchronized (stripe) {
+            Tracked entry = stripe.get(key);
+            if (entry != null && now - entry.windowStart < windowNanos) {
+                entry.repeats++;
+                suppressed.increment();
+                return false;
+            }
+
+            if (entry == null) {
+                entry = new Tracked(message);
+                stripe.put(key, entry);
+            } else {
+                emitSummary(entry);
+            }
+            entry.windowStart = now;
+
+            sink.accept(error ? text.error(message) : text.warning(message));
+            emitted.increment();
+            return true;
+        }
+    }
+
+    /**
+     * Emits the summary of the specified {@code entry} if it was repeated, and resets its
+     * repeats.
+     *
+     * @author Sparky983
+     * @param entry The entry.
+     */
+    private void emitSummary(final @NotNull Tracked entry) {
+        if (entry.repeats == 0) {
+            return;
+        }
+
+        final String times = entry.repeats == 1 ? " time: " : " times: ";
+        sink.accept(text.warning(
+                Component.text("Repeated " + entry.repeats + times).append(entry.message)));
+        entry.repeats = 0;
+        summaries.increment();
+    }
+
+    /**
+     * The key of a tracked message.
+     *
+     * @author Sparky983
+     */
+    private static final class Key {
+
+        private final Category category;
+        private final Component message;
+        private final boolean error;
+        private final int hash;
+
+        /**
+         * Constructs a new {@code Key}.
+         *
+         * @author Sparky983
+         * @param category The category.
+         * @param message The message.
+         * @param error Whether the message is an error.
+         */
+        Key(final @NotNull Category category,
+                final @NotNull Component message,
+                final boolean error) {
+            this.category = category;
+            this.message = message;
+            this.error = error;
+            this.hash = 31 * (31 * category.hashCode() + message.hashCode())
+                    + Boolean.hashCode(error);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) o;
+            return hash == other.hash
+                    && error == other.error
+                    && category.equals(other.category)
+                    && message.equals(other.message);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * The state of a tracked message.
+     *
+     * @author Sparky983
+     */
+    private static final class Tracked {
+
+        private final Component message;
+        private long windowStart;
+        private long repeats;
+
+        /**
+         * Constructs a new {@code Tracked}.
+         *
+         * @author Sparky983
+         * @param message The message.
+         */
+        Tracked(final @NotNull Component message) {
+            this.message = message;
+        }
+    }
+
+    /**
+     * A stripe of tracked messages, forgetting the least recently seen message when full.
+     *
+     * @author Sparky983
+     */
+    private final class Stripe extends LinkedHashMap<Key, Tracked> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int maximumSize;
+
+        /**
+         * Constructs a new {@code Stripe}.
+         *
+         * @author Sparky983
+         * @param maximumSize The maximum amount of tracked messages.
+         */
+        Stripe(final int maximumSize) {
+            super(16, 0.75f, true);
+            this.maximumSize = maximumSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<Key, Tracked> eldest) {
+            if (size() <= maximumSize) {
+                return false;
+            }
+            emitSummary(eldest.getValue());
+            return true;
+        }
+    }
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2022 OreField
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.orefield.text.broadcast;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.JoinConfiguration;
+import net.orefield.text.Category;
+import net.orefield.text.Text;
+import net.orefield.text.util.Preconditions;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+/**
+ * Coalesces bursts of {@link Text#information(Category, Object) information} messages of the
+ * same category into a single message.
+ * <p>
+ * Messages are buffered per category. A category's buffer is flushed a window of time after its
+ * first message, or as soon as it holds the maximum batch size, whichever comes first.
+ * A flush renders the buffered messages as one information message, with the category prefix
+ * once and the messages joined by newlines, and passes it to the sink:
+ * <pre>
+ * InformationCoalescer coalescer = new InformationCoalescer(
+ *         AdventureTexts.adventureText(),
+ *         scheduler,
+ *         50, TimeUnit.MILLISECONDS,
+ *         32,
+ *         (category, message) -&gt; broadcaster.broadcast(message, staff));
+ *
+ * coalescer.information(Category.PUNISH, Component.text(player + " was kicked."));
+ * </pre>
+ * <p>
+ * A flush of a single message renders the same message as
+ * {@link Text#information(Category, Object)}. The sink is called with the lock of the category
+ * held, so messages of a category reach the sink in order; it should hand the message off rather
+ * than do slow work.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @author Sparky983
+ * @since 1.0.3
+ */
+public final class InformationCoalescer implements AutoCloseable {
+
+    private static final JoinConfiguration NEWLINES = JoinConfiguration.separator(
+            Component.newline());
+
+    private final Text<Component> text;
+    private final ScheduledExecutorService scheduler;
+    private final long window;
+    private final TimeUnit unit;
+    private final int maximumBatchSize;
+    private final BiConsumer<? super Category, ? super Component> sink;
+
+    private final ConcurrentMap<Category, Batch> batches = new ConcurrentHashMap<>();
+    private volatile boolean closed = false;
+
+    /**
+     * Constructs a new {@code InformationCoalescer}.
+     *
+     * @author Sparky983
+     * @param text The text used to render messages.
+     * @param scheduler The scheduler timed flushes are run on. The caller owns the scheduler.
+     * @param window The time a buffer is held after its first message before it is flushed.
+     * @param unit The unit of the {@code window}.
+     * @param maximumBatchSize The maximum amount of messages per buffer.
+     * @param sink The sink coalesced messages are passed to, with their category.
+     * @throws NullPointerException if {@code text}, {@code scheduler}, {@code unit} or
+     *                              {@code sink} are {@code null}.
+     * @throws IllegalArgumentException if {@code window} is negative or {@code maximumBatchSize}
+     *                                  isn't positive.
+     * @since 1.0.3
+     */
+    public InformationCoalescer(final @NotNull Text<Component> text,
+            final @NotNull ScheduledExecutorService scheduler,
+            final long window,
+            final @NotNull TimeUnit unit,
+            final int maximumBatchSize,
+            final @NotNull BiConsumer<? super Category, ? super Component> sink) {
+        Preconditions.checkArgument(window >= 0, "[window] cannot be negative");
+        Preconditions.checkArgument(maximumBatchSize > 0, "[maximumBatchSize] must be positive");
+
+        this.text = Preconditions.checkNotNull(text, "text");
+        this.scheduler = Preconditions.checkNotNull(scheduler, "scheduler");
+        this.window = window;
+        this.unit = Preconditions.checkNotNull(unit, "unit");
+        this.maximumBatchSize = maximumBatchSize;
+        this.sink = Preconditions.checkNotNull(sink, "sink");
+    }
+
+    /**
+     * Buffers an information message, flushing the buffer of the {@code category} if it is full.
+     *
+     * @author Sparky983
+     * @param category The category.
+     * @param message The message.
+     * @throws NullPointerException if {@code category} or {@code message} are {@code null}.
+     * @throws IllegalStateException if the coalescer is closed.
+     * @since 1.0.3
+     */
+    public void information(final @NotNull Category category, final @NotNull Component message) {
+        Preconditions.checkNotNull(category, "category");
+        Preconditions.checkNotNull(message, "message");
+
+        if (closed) {
+            throw new IllegalStateException("The coalescer is closed");
+        }
+
+        batches.computeIfAbsent(category, Batch::new).add(message);
+    }
+
+    /**
+     * Flushes the buffers of every category immediately.
+     *
+     * @author Sparky983
+     * @since 1.0.3
+     */
+    public void flush() {
+        for (final Batch batch : batches.values()) {
+            batch.flush();
+        }
+    }
+
+    /**
+     * Flushes the buffers of every category and stops accepting messages.
+     * <p>
+     * The scheduler isn't shut down.
+     *
+     * @author Sparky983
+     * @since 1.0.3
+     */
+    @Override
+    public void close() {
+        closed = true;
+        flush();
+    }
+
+    /**
+     * The buffer of a category.
+     *
+     * @author Sparky983
+     */
+    private final class Batch {
+
+        private final Category category;
+        private final List<Component> messages = new ArrayList<>();
+        private @Nullable ScheduledFuture<?> scheduledFlush;
+
+        /**
+         * Constructs a new {@code Batch}.
+         *
+         * @author Sparky983
+         * @param category The category.
+         */
+        Batch(final @NotNull Category category) {
+            this.category = category;
+        }
+
+        /**
+         * Buffers the specified {@code message}, flushing if the buffer is full and scheduling a
+         * flush if it is the first message.
+         *
+         * @author Sparky983
+         * @param message The message.
+         */
+        synchronized void add(final @NotNull Component message) {
+            messages.add(message);
+
+            if (messages.size() >= maximumBatchSize) {
+                flush();
+            } else if (scheduledFlush == null) {
+                scheduledFlush = scheduler.schedule(this::flush, window, unit);
+            }
+        }
+
+        /**
+         * Renders the buffered messages and passes them to the sink, if there are any.
+         *
+         * @author Sparky983
+         */
+        synchronized void flush() {
+            if (scheduledFlush != null) {
+                scheduledFlush.cancel(false);
+                scheduledFlush = null;
+            }
+            if (messages.isEmpty()) {
+                return;
+            }
+
+            final Component body = messages.size() == 1
+                    ? messages.get(0)
+                    : Component.join(NEWLINES, messages);
+            messages.clear();
+            sink.accept(category, text.information(category, body));
+        }
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2022 OreField
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.orefield.text.broadcast;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import net.kyori.adventure.audience.Audience;
+import net.kyori.adventure.audience.MessageType;
+import net.kyori.adventure.identity.Identity;
+import net.kyori.adventure.text.Component;
+import net.orefield.text.Category;
+import net.orefield.text.adventure.AdventureTexts;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@SuppressWarnings("ConstantConditions")
+class BroadcasterTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void shutdownExecutor() {
+        executor.shutdown();
+    }
+
+    @Test
+    void information_DeliversSameMessageToEveryAudience() {
+        final Broadcaster broadcaster = new Broadcaster(AdventureTexts.adventureText(), executor,
+                8, 2);
+        final List<RecordingAudience> audiences = audiences(100);
+
+        broadcaster.information(Category.NETWORK, Component.text("Proxy restarting."), audiences)
+                .join();
+
+        final Component expected = AdventureTexts.information(Category.NETWORK,
+                Component.text("Proxy restarting."));
+        final Component first = audiences.get(0).messages.get(0);
+        assertEquals(expected, first);
+        for (final RecordingAudience audience : audiences) {
+            assertEquals(1, audience.messages.size());
+            assertSame(first, audience.messages.get(0));
+        }
+    }
+
+    @Test
+    void broadcast_LimitsPendingBatches() {
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maximumRunning = new AtomicInteger();
+        final Audience slowAudience = new Audience() {
+            @Override
+            public void sendMessage(final @NotNull Identity source,
+                    final @NotNull Component message,
+                    final @NotNull MessageType type) {
+                final int current = running.incrementAndGet();
+                maximumRunning.accumulateAndGet(current, Math::max);
+                try {
+                    Thread.sleep(1);
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                running.decrementAndGet();
+            }
+        };
+        final Broadcaster broadcaster = new Broadcaster(AdventureTexts.adventureText(), executor,
+                1, 2);
+
+        broadcaster.broadcast(Component.text("Hello"),
+                Collections.nCopies(50, slowAudience)).join();
+
+        assertTrue(maximumRunning.get() <= 2);
+    }
+
+    @Test
+    void broadcast_CompletesExceptionally_WhenAudienceThrows() {
+        final Broadcaster broadcaster = new Broadcaster(AdventureTexts.adventureText(),
+                Runnable::run, 10, 1);
+        final RecordingAudience after = new RecordingAudience();
+        final Audience failing = new Audience() {
+            @Override
+            public void sendMessage(final @NotNull Identity source,
+                    final @NotNull Component message,
+                    final @NotNull MessageType type) {
+                throw new IllegalStateException("disconnected");
+            }
+        };
+
+        final CompletableFuture<Void> future = broadcaster.broadcast(Component.text("Hello"),
+                Arrays.asList(failing, after));
+
+        final Throwable thrown = assertThrows(CompletionException.class, future::join);
+        assertEquals(IllegalStateException.class, thrown.getCause().getClass());
+        assertEquals(1, after.messages.size());
+    }
+
+    @Test
+    void broadcast_Fails_WhenArgumentsInvalid() {
+        final Broadcaster broadcaster = new Broadcaster(AdventureTexts.adventureText(), executor);
+
+        assertThrows(NullPointerException.class,
+                () -> broadcaster.broadcast(null, Collections.emptyList()));
+        assertThrows(NullPointerException.class,
+                () -> broadcaster.broadcast(Component.text("Hello"), null));
+        assertThrows(NullPointerException.class,
+                () -> broadcaster.broadcast(Component.text("Hello"),
+                        Collections.singletonList(null)));
+        assertThrows(IllegalArgumentException.class,
+                () -> new Broadcaster(AdventureTexts.adventureText(), executor, 0, 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> new Broadcaster(AdventureTexts.adventureText(), executor, 1, 0));
+    }
+
+    @Test
+    void defaultExecutor_RunsTasks() {
+        final ExecutorService defaultExecutor = Broadcaster.defaultExecutor();
+        try {
+            final Broadcaster broadcaster = new Broadcaster(AdventureTexts.adventureText(),
+                    defaultExecutor);
+            final List<RecordingAudience> audiences = audiences(10);
+
+            broadcaster.broadcast(Component.text("Hello"), audiences).join();
+
+            assertEquals(Collections.singletonList(Component.text("Hello")),
+                    audiences.get(9).messages);
+        } finally {
+            defaultExecutor.shutdown();
+        }
+    }
+
+    private static List<RecordingAudience> audiences(final int size) {
+        final List<RecordingAudience> audiences = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            audiences.add(new RecordingAudience());
+        }
+        return audiences;
+    }
+
+    private static final class RecordingAudience implements Audience {
+
+        private final List<Component> messages = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public void sendMessage(final @NotNull Identity source,
+                final @NotNull Component message,
+                final @NotNull MessageType type) {
+            messages.add(message);
+        }
+    }
+}
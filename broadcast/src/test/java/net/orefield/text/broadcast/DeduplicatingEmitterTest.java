@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2022 OreField
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.orefield.text.broadcast;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import net.kyori.adventure.text.Component;
+import net.orefield.text.Category;
+import net.orefield.text.adventure.AdventureTexts;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@SuppressWarnings("ConstantConditions")
+class DeduplicatingEmitterTest {
+
+    private final List<Component> sent = new ArrayList<>();
+    private final AtomicLong now = new AtomicLong();
+
+    private DeduplicatingEmitter emitter(final int maximumTrackedMessages) {
+        return new DeduplicatingEmitter(AdventureTexts.adventureText(), 10, TimeUnit.SECONDS,
+                maximumTrackedMessages, sent::add, now::get);
+    }
+
+    private static Component summary(final int repeats, final Component message) {
+        final String times = repeats == 1 ? " time: " : " times: ";
+        return AdventureTexts.warning(Component.text("Repeated " + repeats + times)
+                .append(message));
+    }
+
+    @Test
+    void testConstructor_ThrowsNpe_WhenArgumentsAreNull() {
+        assertThrows(NullPointerException.class, () -> new DeduplicatingEmitter(null, 1,
+                TimeUnit.SECONDS, 1, sent::add));
+        assertThrows(NullPointerException.class, () -> new DeduplicatingEmitter(
+                AdventureTexts.adventureText(), 1, null, 1, sent::add));
+        assertThrows(NullPointerException.class, () -> new DeduplicatingEmitter(
+                AdventureTexts.adventureText(), 1, TimeUnit.SECONDS, 1, null));
+    }
+
+    @Test
+    void testConstructor_ThrowsIae_WhenArgumentsAreOutOfRange() {
+        assertThrows(IllegalArgumentException.class, () -> new DeduplicatingEmitter(
+                AdventureTexts.adventureText(), -1, TimeUnit.SECONDS, 1, sent::add));
+        assertThrows(IllegalArgumentException.class, () -> new DeduplicatingEmitter(
+                AdventureTexts.adventureText(), 1, TimeUnit.SECONDS, 0, sent::add));
+    }
+
+    @Test
+    void testError_ThrowsNpe_WhenArgumentsAreNull() {
+        final DeduplicatingEmitter emitter = emitter(16);
+
+        assertThrows(NullPointerException.class,
+                () -> emitter.error(null, Component.text("message")));
+        assertThrows(NullPointerException.class, () -> emitter.error(Category.DEV, null));
+    }
+
+    @Test
+    void testError_EmitsOnce_WhenRepeatedWithinWindow() {
+        final DeduplicatingEmitter emitter = emitter(16);
+        final Component message = Component.text("message");
+
+        assertTrue(emitter.error(Category.DEV, message));
+        assertFalse(emitter.error(Category.DEV, Component.text("message")));
+        assertFalse(emitter.error(Category.DEV, message));
+
+        assertEquals(Collections.singletonList(AdventureTexts.error(message)), sent);
+        assertEquals(1, emitter.emittedCount());
+        assertEquals(2, emitter.suppressedCount());
+    }
+
+    @Test
+    void testError_EmitsSummaryAndMessage_WhenRepeatedAfterWindow() {
+        final DeduplicatingEmitter emitter = emitter(16);
+        final Component message = Component.text("message");
+
+        emitter.error(Category.DEV, message);
+        emitter.error(Category.DEV, message);
+        emitter.error(Category.DEV, message);
+        now.addAndGet(TimeUnit.SECONDS.toNanos(10));
+
+        assertTrue(emitter.error(Category.DEV, message));
+        assertEquals(Arrays.asList(
+                AdventureTexts.error(message),
+                summary(2, message),
+                AdventureTexts.error(message)), sent);
+        assertEquals(1, emitter.summaryCount());
+    }
+
+    @Test
+    void testError_KeysByCategoryAndSeverity() {
+        final DeduplicatingEmitter emitter = emitter(16);
+        final Component message = Component.text("message");
+
+        assertTrue(emitter.error(Category.DEV, message));
+        assertTrue(emitter.error(Category.STAFF, message));
+        assertTrue(emitter.warning(Category.DEV, message));
+
+        assertEquals(Arrays.asList(
+                AdventureTexts.error(message),
+                AdventureTexts.error(message),
+                AdventureTexts.warning(message)), sent);
+    }
+
+    @Test
+    void testFlush_EmitsSummariesAndForgetsExpiredMessages() {
+        final DeduplicatingEmitter emitter = emitter(16);
+        final Component message = Component.text("message");
+
+        emitter.warning(Category.DEV, message);
+        emitter.warning(Category.DEV, message);
+        emitter.flush();
+        assertEquals(Arrays.asList(AdventureTexts.warning(message), summary(1, message)), sent);
+
+        emitter.flush();
+        assertEquals(2, sent.size());
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        emitter.flush();
+        emitter.warning(Category.DEV, message);
+        assertEquals(AdventureTexts.warning(message), sent.get(2));
+        assertEquals(3, sent.size());
+    }
+
+    @Test
+    void testError_EmitsSummaryOfEvictedMessage_WhenFull() {
+        final DeduplicatingEmitter emitter = emitter(1);
+        final Component first = Component.text("first");
+
+        emitter.error(Category.DEV, first);
+        emitter.error(Category.DEV, first);
+        for (int i = 0; i < 64; i++) {
+            emitter.error(Category.DEV, Component.text(i));
+        }
+
+        assertTrue(sent.contains(summary(1, first)));
+        assertTrue(emitter.error(Category.DEV, first));
+    }
+
+    @Test
+    void testError_TracksAtMostMaximumTrackedMessages_WhenLimitIsSmall() {
+        for (int maximumTrackedMessages = 1; maximumTrackedMessages <= 40;
+                maximumTrackedMessages++) {
+            final DeduplicatingEmitter emitter = emitter(maximumTrackedMessages);
+
+            for (int i = 0; i < 256; i++) {
+                emitter.error(Category.DEV, Component.text(i));
+            }
+
+            assertEquals(maximumTrackedMessages, emitter.trackedSize());
+        }
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2022 OreField
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.orefield.text.broadcast;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import net.kyori.adventure.text.Component;
+import net.orefield.text.Category;
+import net.orefield.text.adventure.AdventureTexts;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+@SuppressWarnings("ConstantConditions")
+class InformationCoalescerTest {
+
+    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
+    private final BlockingQueue<Component> sent = new LinkedBlockingQueue<>();
+
+    @AfterEach
+    void shutdownScheduler() {
+        scheduler.shutdownNow();
+    }
+
+    private InformationCoalescer coalescer(final long windowMillis, final int maximumBatchSize) {
+        return new InformationCoalescer(AdventureTexts.adventureText(), scheduler,
+                windowMillis, TimeUnit.MILLISECONDS, maximumBatchSize,
+                (category, message) -> sent.add(message));
+    }
+
+    private static Component joined(final Category category, final String... messages) {
+        final List<Component> lines = new ArrayList<>();
+        for (final String message : messages) {
+            if (!lines.isEmpty()) {
+                lines.add(Component.newline());
+            }
+            lines.add(Component.text(message));
+        }
+        return AdventureTexts.information(category, Component.empty().children(lines));
+    }
+
+    @Test
+    void information_FlushesCombinedMessage_WhenBatchIsFull() {
+        final InformationCoalescer coalescer = coalescer(60_000, 3);
+
+        coalescer.information(Category.PUNISH, Component.text("a was kicked."));
+        coalescer.information(Category.PUNISH, Component.text("b was kicked."));
+        assertTrue(sent.isEmpty());
+        coalescer.information(Category.PUNISH, Component.text("c was kicked."));
+
+        assertEquals(
+                Collections.singletonList(
+                        joined(Category.PUNISH, "a was kicked.", "b was kicked.", "c was kicked.")),
+                new ArrayList<>(sent));
+    }
+
+    @Test
+    void information_FlushesAfterWindow() throws InterruptedException {
+        final InformationCoalescer coalescer = coalescer(20, 100);
+
+        coalescer.information(Category.PUNISH, Component.text("a was banned."));
+        coalescer.information(Category.PUNISH, Component.text("b was banned."));
+
+        assertEquals(joined(Category.PUNISH, "a was banned.", "b was banned."),
+                sent.poll(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void flush_RendersSingleMessageLikeInformation() {
+        final InformationCoalescer coalescer = coalescer(60_000, 100);
+
+        coalescer.information(Category.CHAT, Component.text("Hello"));
+        coalescer.information(Category.STAFF, Component.text("Hi"));
+        coalescer.flush();
+
+        assertEquals(2, sent.size());
+        assertTrue(sent.contains(
+                AdventureTexts.information(Category.CHAT, Component.text("Hello"))));
+        assertTrue(sent.contains(
+                AdventureTexts.information(Category.STAFF, Component.text("Hi"))));
+    }
+
+    @Test
+    void close_FlushesAndRejectsMessages() {
+        final InformationCoalescer coalescer = coalescer(60_000, 100);
+
+        coalescer.information(Category.CHAT, Component.text("Hello"));
+        coalescer.close();
+
+        assertEquals(
+                Collections.singletonList(
+                        AdventureTexts.information(Category.CHAT, Component.text("Hello"))),
+                new ArrayList<>(sent));
+        assertThrows(IllegalStateException.class,
+                () -> coalescer.information(Category.CHAT, Component.text("Hello")));
+    }
+
+    @Test
+    void new_Fails_WhenArgumentsInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> coalescer(-1, 1));
+        assertThrows(IllegalArgumentException.class, () -> coalescer(1, 0));
+        assertThrows(NullPointerException.class,
+                () -> new InformationCoalescer(null, scheduler, 1, TimeUnit.SECONDS, 1,
+                        (category, message) -> {}));
+        assertThrows(NullPointerException.class,
+                () -> coalescer(1, 1).information(Category.CHAT, null));
+    }
+}
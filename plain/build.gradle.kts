@@ -0,0 +1,7 @@
+plugins {
+    id("orefield-text.java-conventions")
+}
+
+dependencies {
+    api(project(":orefield-text-api"))
+}
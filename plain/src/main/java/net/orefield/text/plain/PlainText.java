@@ -0,0 +1,406 @@
+/*
+ * Copyright (c) 2022 OreField
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.orefield.text.plain;
+
+import static org.jetbrains.annotations.Nls.Capitalization.Title;
+
+import net.orefield.text.Category;
+import net.orefield.text.Property;
+import net.orefield.text.PropertyGroup;
+import net.orefield.text.Text;
+import net.orefield.text.util.Preconditions;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.Nls;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An implementation of {@link Text} rendering plain strings, for logs, consoles and other
+ * destinations without formatting.
+ * <p>
+ * Messages are rendered straight into strings, without building and flattening a component tree.
+ * The {@code append} methods render into a caller's {@link StringBuilder}, so a builder can be
+ * reused between messages:
+ * <pre>
+ * StringBuilder line = new StringBuilder();
+ * for (LogRecord record : records) {
+ *     line.setLength(0);
+ *     PlainText.plainText().appendInformation(line, Category.DISCORD, record.getMessage());
+ *     relay.send(line);
+ * }
+ * </pre>
+ * <p>
+ * The output is the same as the plain text of the {@code AdventureText} components: titles are
+ * the title itself, information messages are prefixed by the category name and the
+ * {@link #SEPARATOR}, and property group lines are indented by {@link #INDENT}.
+ *
+ * @author Sparky983
+ * @since 1.0.3
+ */
+public final class PlainText implements Text<String> {
+
+    private static final String ERROR_LABEL = "Error: ";
+    private static final String WARNING_LABEL = "Warning: ";
+    private static final String PROPERTY_SEPARATOR = ": ";
+    private static final String OREFIELD = "OREFIELD";
+
+    private static final PlainText INSTANCE = new PlainText();
+
+    /**
+     * Constructs a new {@code PlainText}.
+     * <p>
+     * Plain texts are stateless; prefer the shared {@link #plainText()} instance.
+     *
+     * @author Sparky983
+     * @since 1.0.3
+     */
+    public PlainText() {
+    }
+
+    /**
+     * Returns the shared {@code PlainText} instance.
+     *
+     * @author Sparky983
+     * @return The instance.
+     * @since 1.0.3
+     */
+    @Contract(pure = true)
+    public static @NotNull PlainText plainText() {
+        return INSTANCE;
+    }
+
+    @Override
+    public @NotNull String title(final @Nls(capitalization = Title) @NotNull String title) {
+        Preconditions.checkNotNull(title, "title");
+
+        return title;
+    }
+
+    @Override
+    public @NotNull String title(final @NotNull Category category) {
+        Preconditions.checkNotNull(category, "category");
+
+        return category.toString();
+    }
+
+    @Override
+    public @NotNull String orefield() {
+        return OREFIELD;
+    }
+
+    @Override
+    public @NotNull String information(final @NotNull Category category,
+            final @NotNull String message) {
+        final String name = Preconditions.checkNotNull(category, "category").getName();
+        Preconditions.checkNotNull(message, "message");
+
+        return appendInformation(new StringBuilder(name.length() + 3 + message.length()),
+                category, message).toString();
+    }
+
+    @Override
+    public @NotNull String error(final @NotNull String message) {
+        Preconditions.checkNotNull(message, "message");
+
+        return ERROR_LABEL.concat(message);
+    }
+
+    @Override
+    public @NotNull String warning(final @NotNull String message) {
+        Preconditions.checkNotNull(message, "message");
+
+        return WARNING_LABEL.concat(message);
+    }
+
+    @Override
+    public @NotNull String callToAction(final @NotNull String message) {
+        Preconditions.checkNotNull(message, "message");
+
+        return message;
+    }
+
+    @Override
+    public @NotNull String property(final @NotNull Property<? extends String> property) {
+        Preconditions.checkNotNull(property, "property");
+
+        return property(property.getPropertyName(), property.getValue());
+    }
+
+    @Override
+    public @NotNull String property(
+            final @Nls(capitalization = Title) @NotNull String propertyName,
+            final @NotNull String value) {
+        Preconditions.checkNotNull(propertyName, "propertyName");
+        Preconditions.checkNotNull(value, "value");
+
+        return appendProperty(
+                new StringBuilder(propertyName.length() + PROPERTY_SEPARATOR.length()
+                        + value.length()),
+                propertyName,
+                value
+        ).toString();
+    }
+
+    @Override
+    public @NotNull String propertyValue(final @NotNull String value) {
+        return Preconditions.checkNotNull(value, "value");
+    }
+
+    @Override
+    public @NotNull String property(
+            final @Nls(capitalization = Title) @NotNull String propertyName,
+            final long value) {
+        Preconditions.checkNotNull(propertyName, "propertyName");
+
+        return new StringBuilder(propertyName.length() + PROPERTY_SEPARATOR.length() + 20)
+                .append(propertyName)
+                .append(PROPERTY_SEPARATOR)
+                .append(value)
+                .toString();
+    }
+
+    @Override
+    public @NotNull String property(
+            final @Nls(capitalization = Title) @NotNull String propertyName,
+            final double value) {
+        Preconditions.checkNotNull(propertyName, "propertyName");
+
+        return new StringBuilder(propertyName.length() + PROPERTY_SEPARATOR.length() + 24)
+                .append(propertyName)
+                .append(PROPERTY_SEPARATOR)
+                .append(value)
+                .toString();
+    }
+
+    @Override
+    public @NotNull @Unmodifiable List<@NotNull String> propertyGroup(
+            final @Nls(capitalization = Title) @NotNull String propertyGroupName,
+            final @NotNull Collection<@NotNull Property<? extends String>> properties) {
+        Preconditions.checkNotNull(propertyGroupName, "propertyGroupName");
+        Preconditions.checkNotNull(properties, "properties");
+
+        final String[] lines = new String[properties.size() + 1];
+        lines[0] = propertyGroupName;
+
+        final StringBuilder line = new StringBuilder();
+        int i = 1;
+        for (final Property<? extends String> property : properties) {
+            Preconditions.checkElementNotNull(property, "properties", i - 1);
+            line.setLength(0);
+            lines[i] = appendPropertyGroupLine(line, property).toString();
+            i++;
+        }
+
+        return Collections.unmodifiableList(Arrays.asList(lines));
+    }
+
+    @Override
+    public @NotNull @Unmodifiable List<@NotNull String> propertyGroup(
+            final @NotNull PropertyGroup<? extends String> propertyGroup) {
+        Preconditions.checkNotNull(propertyGroup, "propertyGroup");
+
+        final String[] lines = new String[propertyGroup.size() + 1];
+        lines[0] = propertyGroup.getName();
+
+        final StringBuilder line = new StringBuilder();
+        for (int i = 0; i < propertyGroup.size(); i++) {
+            line.setLength(0);
+            lines[i + 1] = line.append(INDENT)
+                    .append(propertyGroup.getPropertyName(i))
+                    .append(PROPERTY_SEPARATOR)
+                    .append(propertyGroup.getValue(i))
+                    .toString();
+        }
+
+        return Collections.unmodifiableList(Arrays.asList(lines));
+    }
+
+    /**
+     * Appends a title to the specified {@code builder}.
+     *
+     * @author Sparky983
+     * @param builder The builder.
+     * @param title The title.
+     * @return The builder.
+     * @throws NullPointerException if {@code builder} or {@code title} are {@code null}.
+     * @see #title(String)
+     * @since 1.0.3
+     */
+    @Contract("_, _ -> param1")
+    public @NotNull StringBuilder appendTitle(final @NotNull StringBuilder builder,
+            final @Nls(capitalization = Title) @NotNull CharSequence title) {
+        Preconditions.checkNotNull(builder, "builder");
+        Preconditions.checkNotNull(title, "title");
+
+        return builder.append(title);
+    }
+
+    /**
+     * Appends an information message to the specified {@code builder}.
+     *
+     * @author Sparky983
+     * @param builder The builder.
+     * @param category The category of the message.
+     * @param message The message.
+     * @return The builder.
+     * @throws NullPointerException if {@code builder}, {@code category} or {@code message} are
+     *                              {@code null}.
+     * @see #information(Category, String)
+     * @since 1.0.3
+     */
+    @Contract("_, _, _ -> param1")
+    public @NotNull StringBuilder appendInformation(final @NotNull StringBuilder builder,
+            final @NotNull Category category,
+            final @NotNull CharSequence message) {
+        Preconditions.checkNotNull(builder, "builder");
+        Preconditions.checkNotNull(category, "category");
+        Preconditions.checkNotNull(message, "message");
+
+        return builder.append(category.getName())
+                .append(' ')
+                .append(SEPARATOR)
+                .append(' ')
+                .append(message);
+    }
+
+    /**
+     * Appends an error message to the specified {@code builder}.
+     *
+     * @author Sparky983
+     * @param builder The builder.
+     * @param message The message.
+     * @return The builder.
+     * @throws NullPointerException if {@code builder} or {@code message} are {@code null}.
+     * @see #error(String)
+     * @since 1.0.3
+     */
+    @Contract("_, _ -> param1")
+    public @NotNull StringBuilder appendError(final @NotNull StringBuilder builder,
+            final @NotNull CharSequence message) {
+        Preconditions.checkNotNull(builder, "builder");
+        Preconditions.checkNotNull(message, "message");
+
+        return builder.append(ERROR_LABEL).append(message);
+    }
+
+    /**
+     * Appends a warning message to the specified {@code builder}.
+     *
+     * @author Sparky983
+     * @param builder The builder.
+     * @param message The message.
+     * @return The builder.
+     * @throws NullPointerException if {@code builder} or {@code message} are {@code null}.
+     * @see #warning(String)
+     * @since 1.0.3
+     */
+    @Contract("_, _ -> param1")
+    public @NotNull StringBuilder appendWarning(final @NotNull StringBuilder builder,
+            final @NotNull CharSequence message) {
+        Preconditions.checkNotNull(builder, "builder");
+        Preconditions.checkNotNull(message, "message");
+
+        return builder.append(WARNING_LABEL).append(message);
+    }
+
+    /**
+     * Appends a property to the specified {@code builder}.
+     *
+     * @author Sparky983
+     * @param builder The builder.
+     * @param propertyName The property name.
+     * @param value The value.
+     * @return The builder.
+     * @throws NullPointerException if {@code builder}, {@code propertyName} or {@code value} are
+     *                              {@code null}.
+     * @see #property(String, String)
+     * @since 1.0.3
+     */
+    @Contract("_, _, _ -> param1")
+    public @NotNull StringBuilder appendProperty(final @NotNull StringBuilder builder,
+            final @Nls(capitalization = Title) @NotNull CharSequence propertyName,
+            final @NotNull CharSequence value) {
+        Preconditions.checkNotNull(builder, "builder");
+        Preconditions.checkNotNull(propertyName, "propertyName");
+        Preconditions.checkNotNull(value, "value");
+
+        return builder.append(propertyName).append(PROPERTY_SEPARATOR).append(value);
+    }
+
+    /**
+     * Appends a property group to the specified {@code builder}, one line per property, each
+     * line terminated by {@code '\n'}.
+     *
+     * @author Sparky983
+     * @param builder The builder.
+     * @param propertyGroupName The group name.
+     * @param properties The properties.
+     * @return The builder.
+     * @throws NullPointerException if {@code builder}, {@code propertyGroupName},
+     *                              {@code properties} or any of its elements are {@code null}.
+     * @see #propertyGroup(String, Collection)
+     * @since 1.0.3
+     */
+    @Contract("_, _, _ -> param1")
+    public @NotNull StringBuilder appendPropertyGroup(final @NotNull StringBuilder builder,
+            final @Nls(capitalization = Title) @NotNull CharSequence propertyGroupName,
+            final @NotNull Collection<? extends @NotNull Property<? extends CharSequence>>
+                    properties) {
+        Preconditions.checkNotNull(builder, "builder");
+        Preconditions.checkNotNull(propertyGroupName, "propertyGroupName");
+        Preconditions.checkNotNull(properties, "properties");
+
+        builder.append(propertyGroupName).append('\n');
+
+        int i = 0;
+        for (final Property<? extends CharSequence> property : properties) {
+            Preconditions.checkElementNotNull(property, "properties", i);
+            appendPropertyGroupLine(builder, property).append('\n');
+            i++;
+        }
+        return builder;
+    }
+
+    /**
+     * Appends an indented property line of a property group to the specified {@code builder}.
+     *
+     * @author Sparky983
+     * @param builder The builder.
+     * @param property The property.
+     * @return The builder.
+     */
+    private static @NotNull StringBuilder appendPropertyGroupLine(
+            final @NotNull StringBuilder builder,
+            final @NotNull Property<? extends CharSequence> property) {
+        return builder.append(INDENT)
+                .append(property.getPropertyName())
+                .append(PROPERTY_SEPARATOR)
+                .append(property.getValue());
+    }
+}
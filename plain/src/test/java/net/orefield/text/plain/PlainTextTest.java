@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2022 OreField
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.orefield.text.plain;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import net.orefield.text.Category;
+import net.orefield.text.Property;
+import net.orefield.text.PropertyGroup;
+import net.orefield.text.Text;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+@SuppressWarnings("ConstantConditions")
+class PlainTextTest {
+
+    private final PlainText text = PlainText.plainText();
+
+    private final List<Property<? extends String>> properties = Arrays.asList(
+            Property.of("Name", "Sparky983"),
+            Property.of("Rank", "Owner"));
+
+    @Test
+    void plainText_ReturnsSharedInstance() {
+        assertSame(PlainText.plainText(), PlainText.plainText());
+    }
+
+    @Test
+    void title_ReturnsTitle() {
+        assertEquals("Title", text.title("Title"));
+        assertEquals(Category.CHAT.toString(), text.title(Category.CHAT));
+        assertEquals("OREFIELD", text.orefield());
+        assertThrows(NullPointerException.class, () -> text.title((String) null));
+        assertThrows(NullPointerException.class, () -> text.title((Category) null));
+    }
+
+    @Test
+    void information_PrefixesCategoryNameAndSeparator() {
+        assertEquals("CHAT " + Text.SEPARATOR + " Hello", text.information(Category.CHAT, "Hello"));
+        assertThrows(NullPointerException.class, () -> text.information(null, "Hello"));
+        assertThrows(NullPointerException.class, () -> text.information(Category.CHAT, null));
+    }
+
+    @Test
+    void errorAndWarning_PrefixLabels() {
+        assertEquals("Error: Oops", text.error("Oops"));
+        assertEquals("Warning: Careful", text.warning("Careful"));
+        assertEquals("Click", text.callToAction("Click"));
+        assertThrows(NullPointerException.class, () -> text.error(null));
+        assertThrows(NullPointerException.class, () -> text.warning(null));
+    }
+
+    @Test
+    void property_SeparatesNameAndValue() {
+        assertEquals("Name: Sparky983", text.property("Name", "Sparky983"));
+        assertEquals("Name: Sparky983", text.property(Property.of("Name", "Sparky983")));
+        assertEquals("Players: 20", text.property("Players", 20));
+        assertEquals("Balance: -9000000000", text.property("Balance", -9_000_000_000L));
+        assertEquals("TPS: 19.5", text.property("TPS", 19.5));
+        assertEquals("20", text.propertyValue("20"));
+        assertThrows(NullPointerException.class, () -> text.property(null, "Sparky983"));
+        assertThrows(NullPointerException.class, () -> text.property(null, 20));
+    }
+
+    @Test
+    void propertyGroup_IndentsProperties() {
+        assertEquals(
+                Arrays.asList(
+                        "Player",
+                        Text.INDENT + "Name: Sparky983",
+                        Text.INDENT + "Rank: Owner"),
+                text.propertyGroup("Player", properties));
+        assertThrows(NullPointerException.class,
+                () -> text.propertyGroup("Player", Collections.singletonList(null)));
+    }
+
+    @Test
+    void propertyGroup_RendersColumnarGroupLikeCollection() {
+        final PropertyGroup<String> group = PropertyGroup.<String>builder("Player")
+                .add("Name", "Sparky983")
+                .add("Rank", "Owner")
+                .build();
+
+        assertEquals(text.propertyGroup("Player", properties), text.propertyGroup(group));
+        assertThrows(NullPointerException.class,
+                () -> text.propertyGroup((PropertyGroup<String>) null));
+    }
+
+    @Test
+    void append_RendersIntoReusedBuilder() {
+        final StringBuilder builder = new StringBuilder("stale");
+
+        builder.setLength(0);
+        assertSame(builder, text.appendInformation(builder, Category.CHAT, "Hello"));
+        assertEquals(text.information(Category.CHAT, "Hello"), builder.toString());
+
+        builder.setLength(0);
+        text.appendError(builder, "Oops").append(' ');
+        text.appendWarning(builder, "Careful").append(' ');
+        text.appendTitle(builder, "Title").append(' ');
+        text.appendProperty(builder, "Name", "Sparky983");
+        assertEquals("Error: Oops Warning: Careful Title Name: Sparky983", builder.toString());
+    }
+
+    @Test
+    void appendPropertyGroup_TerminatesEveryLine() {
+        final StringBuilder builder = new StringBuilder();
+
+        text.appendPropertyGroup(builder, "Player", properties);
+
+        assertEquals(String.join("\n", text.propertyGroup("Player", properties)) + '\n',
+                builder.toString());
+        assertThrows(NullPointerException.class,
+                () -> text.appendPropertyGroup(null, "Player", properties));
+    }
+}
@@ -0,0 +1,10 @@
+plugins {
+    id("orefield-text.java-conventions")
+}
+
+dependencies {
+    api(project(":orefield-text-adventure"))
+    api(libs.adventure.serializer.gson)
+    api(libs.adventure.serializer.legacy)
+    api(libs.adventure.serializer.plain)
+}
@@ -0,0 +1,625 @@
+/*
+ * Copyright (c) 2022 OreField
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.orefield.text.serializer;
+
+import static org.jetbrains.annotations.Nls.Capitalization.Title;
+
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.TextColor;
+import net.orefield.text.Category;
+import net.orefield.text.Text;
+import net.orefield.text.adventure.Theme;
+import net.orefield.text.util.BoundedCache;
+import net.orefield.text.util.Preconditions;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.Nls;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.VisibleForTesting;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A writer of messages as chat JSON, straight into a caller's sink.
+ * <p>
+ * The messages are the same as those rendered by {@code AdventureText} and serialized by
+ * adventure's JSON serializer, but no component or intermediate string is built: the static
+ * parts of each message (labels, colors and the separator) are encoded once, and only the
+ * message text is escaped into the sink. Messages can be written to any {@link Appendable}, such
+ * as a {@link StringBuilder} or a {@link java.nio.CharBuffer}, or encoded as UTF-8 into a
+ * {@link ByteBuffer}, such as a direct network buffer:
+ * <pre>
+ * ByteBuffer buffer = ByteBuffer.allocateDirect(1024);
+ * writer.writeInformation(buffer, Category.CHAT, message);
+ * </pre>
+ * <p>
+ * Writing into a {@link ByteBuffer} throws {@link BufferOverflowException} if the message
+ * doesn't fit; the buffer's position is then restored, so the message can be written again into
+ * a larger buffer. Unpaired surrogates are written as JSON unicode escapes into every sink, so
+ * both forms carry the same text. The message texts are plain text, and the labels are the
+ * default English labels.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @author Sparky983
+ * @since 1.0.3
+ */
+public final class ChatJsonWriter {
+
+    /**
+     * The maximum amount of cached information prefixes.
+     */
+    @VisibleForTesting
+    static final int MAXIMUM_CACHE_SIZE = 256;
+
+    private static final Fragment OPEN_TEXT = new Fragment("{\"text\":\"");
+    private static final Fragment CLOSE_EXTRA = new Fragment("\"}]}");
+
+    private final Theme theme;
+
+    private final Fragment titlePrefix;
+    private final Fragment errorPrefix;
+    private final Fragment warningPrefix;
+    private final Fragment callToActionSuffix;
+    private final Fragment propertyPrefix;
+    private final Fragment propertyInfix;
+
+    private final BoundedCache<Category, Fragment> informationPrefixes;
+
+    /**
+     * Constructs a new {@code ChatJsonWriter} with the {@link Theme#DEFAULT default theme}.
+     *
+     * @author Sparky983
+     * @since 1.0.3
+     */
+    public ChatJsonWriter() {
+        this(Theme.DEFAULT);
+    }
+
+    /**
+     * Constructs a new {@code ChatJsonWriter} with the specified {@code theme}.
+     *
+     * @author Sparky983
+     * @param theme The theme.
+     * @throws NullPointerException if {@code theme} is {@code null}.
+     * @since 1.0.3
+     */
+    public ChatJsonWriter(final @NotNull Theme theme) {
+        this.theme = Preconditions.checkNotNull(theme, "theme");
+
+        this.titlePrefix = new Fragment("{\"text\":\"\",\"extra\":[{\"bold\":true,\"color\":\""
+                + color(theme.accent()) + "\",\"text\":\"");
+        this.errorPrefix = new Fragment("{\"color\":\"" + color(theme.error())
+                + "\",\"text\":\"Error: \",\"extra\":[{\"text\":\"");
+        this.warningPrefix = new Fragment("{\"color\":\"" + color(theme.warning())
+                + "\",\"text\":\"Warning: \",\"extra\":[{\"text\":\"");
+        this.callToActionSuffix = new Fragment("\",\"bold\":true,\"color\":\""
+                + color(theme.callToAction()) + "\"}");
+        this.propertyPrefix = new Fragment("{\"text\":\"\",\"extra\":[{\"color\":\""
+                + color(theme.gray()) + "\",\"text\":\"");
+        this.propertyInfix = new Fragment(": \"},{\"text\":\"");
+
+        this.informationPrefixes = new BoundedCache<>(MAXIMUM_CACHE_SIZE,
+                this::createInformationPrefix);
+    }
+
+    /**
+     * Writes a title.
+     *
+     * @author Sparky983
+     * @param out The sink.
+     * @param title The title.
+     * @param <A> The type of the sink.
+     * @return The sink.
+     * @throws NullPointerException if {@code out} or {@code title} are {@code null}.
+     * @throws IOException if the sink throws.
+     * @see Text#title(String)
+     * @since 1.0.3
+     */
+    @Contract("_, _ -> param1")
+    public <A extends Appendable> @NotNull A writeTitle(final @NotNull A out,
+            final @Nls(capitalization = Title) @NotNull CharSequence title) throws IOException {
+        Preconditions.checkNotNull(title, "title");
+
+        return write(out, titlePrefix, title, CLOSE_EXTRA);
+    }
+
+    /**
+     * Writes a title as UTF-8.
+     *
+     * @author Sparky983
+     * @param out The buffer.
+     * @param title The title.
+     * @return The buffer.
+     * @throws NullPointerException if {@code out} or {@code title} are {@code null}.
+     * @see Text#title(String)
+     * @since 1.0.3
+     */
+    @Contract("_, _ -> param1")
+    public @NotNull ByteBuffer writeTitle(final @NotNull ByteBuffer out,
+            final @Nls(capitalization = Title) @NotNull CharSequence title) {
+        Preconditions.checkNotNull(title, "title");
+
+        return write(out, titlePrefix, title, CLOSE_EXTRA);
+    }
+
+    /**
+     * Writes an information message.
+     *
+     * @author Sparky983
+     * @param out The sink.
+     * @param category The category of the message.
+     * @param message The message.
+     * @param <A> The type of the sink.
+     * @return The sink.
+     * @throws NullPointerException if {@code out}, {@code category} or {@code message} are
+     *                              {@code null}.
+     * @throws IOException if the sink throws.
+     * @see Text#information(Category, Object)
+     * @since 1.0.3
+     */
+    @Contract("_, _, _ -> param1")
+    public <A extends Appendable> @NotNull A writeInformation(final @NotNull A out,
+            final @NotNull Category category,
+            final @NotNull CharSequence message) throws IOException {
+        Preconditions.checkNotNull(category, "category");
+        Preconditions.checkNotNull(message, "message");
+
+        return write(out, informationPrefixes.get(category), message, CLOSE_EXTRA);
+    }
+
+    /**
+     * Writes an information message as UTF-8.
+     *
+     * @author Sparky983
+     * @param out The buffer.
+     * @param category The category of the message.
+     * @param message The message.
+     * @return The buffer.
+     * @throws NullPointerException if {@code out}, {@code category} or {@code message} are
+     *                              {@code null}.
+     * @see Text#information(Category, Object)
+     * @since 1.0.3
+     */
+    @Contract("_, _, _ -> param1")
+    public @NotNull ByteBuffer writeInformation(final @NotNull ByteBuffer out,
+            final @NotNull Category category,
+            final @NotNull CharSequence message) {
+        Preconditions.checkNotNull(category, "category");
+        Preconditions.checkNotNull(message, "message");
+
+        return write(out, informationPrefixes.get(category), message, CLOSE_EXTRA);
+    }
+
+    /**
+     * Writes an error message.
+     *
+     * @author Sparky983
+     * @param out The sink.
+     * @param message The message.
+     * @param <A> The type of the sink.
+     * @return The sink.
+     * @throws NullPointerException if {@code out} or {@code message} are {@code null}.
+     * @throws IOException if the sink throws.
+     * @see Text#error(Object)
+     * @since 1.0.3
+     */
+    @Contract("_, _ -> param1")
+    public <A extends Appendable> @NotNull A writeError(final @NotNull A out,
+            final @NotNull CharSequence message) throws IOException {
+        Preconditions.checkNotNull(message, "message");
+
+        return write(out, errorPrefix, message, CLOSE_EXTRA);
+    }
+
+    /**
+     * Writes an error message as UTF-8.
+     *
+     * @author Sparky983
+     * @param out The buffer.
+     * @param message The message.
+     * @return The buffer.
+     * @throws NullPointerException if {@code out} or {@code message} are {@code null}.
+     * @see Text#error(Object)
+     * @since 1.0.3
+     */
+    @Contract("_, _ -> param1")
+    public @NotNull ByteBuffer writeError(final @NotNull ByteBuffer out,
+            final @NotNull CharSequence message) {
+        Preconditions.checkNotNull(message, "message");
+
+        return write(out, errorPrefix, message, CLOSE_EXTRA);
+    }
+
+    /**
+     * Writes a warning message.
+     *
+     * @author Sparky983
+     * @param out The sink.
+     * @param message The message.
+     * @param <A> The type of the sink.
+     * @return The sink.
+     * @throws NullPointerException if {@code out} or {@code message} are {@code null}.
+     * @throws IOException if the sink throws.
+     * @see Text#warning(Object)
+     * @since 1.0.3
+     */
+    @Contract("_, _ -> param1")
+    public <A extends Appendable> @NotNull A writeWarning(final @NotNull A out,
+            final @NotNull CharSequence message) throws IOException {
+        Preconditions.checkNotNull(message, "message");
+
+        return write(out, warningPrefix, message, CLOSE_EXTRA);
+    }
+
+    /**
+     * Writes a warning message as UTF-8.
+     *
+     * @author Sparky983
+     * @param out The buffer.
+     * @param message The message.
+     * @return The buffer.
+     * @throws NullPointerException if {@code out} or {@code message} are {@code null}.
+     * @see Text#warning(Object)
+     * @since 1.0.3
+     */
+    @Contract("_, _ -> param1")
+    public @NotNull ByteBuffer writeWarning(final @NotNull ByteBuffer out,
+            final @NotNull CharSequence message) {
+        Preconditions.checkNotNull(message, "message");
+
+        return write(out, warningPrefix, message, CLOSE_EXTRA);
+    }
+
+    /**
+     * Writes a call to action.
+     *
+     * @author Sparky983
+     * @param out The sink.
+     * @param message The message.
+     * @param <A> The type of the sink.
+     * @return The sink.
+     * @throws NullPointerException if {@code out} or {@code message} are {@code null}.
+     * @throws IOException if the sink throws.
+     * @see Text#callToAction(Object)
+     * @since 1.0.3
+     */
+    @Contract("_, _ -> param1")
+    public <A extends Appendable> @NotNull A writeCallToAction(final @NotNull A out,
+            final @NotNull CharSequence message) throws IOException {
+        Preconditions.checkNotNull(message, "message");
+
+        return write(out, OPEN_TEXT, message, callToActionSuffix);
+    }
+
+    /**
+     * Writes a call to action as UTF-8.
+     *
+     * @author Sparky983
+     * @param out The buffer.
+     * @param message The message.
+     * @return The buffer.
+     * @throws NullPointerException if {@code out} or {@code message} are {@code null}.
+     * @see Text#callToAction(Object)
+     * @since 1.0.3
+     */
+    @Contract("_, _ -> param1")
+    public @NotNull ByteBuffer writeCallToAction(final @NotNull ByteBuffer out,
+            final @NotNull CharSequence message) {
+        Preconditions.checkNotNull(message, "message");
+
+        return write(out, OPEN_TEXT, message, callToActionSuffix);
+    }
+
+    /**
+     * Writes a property.
+     *
+     * @author Sparky983
+     * @param out The sink.
+     * @param propertyName The property name.
+     * @param value The value.
+     * @param <A> The type of the sink.
+     * @return The sink.
+     * @throws NullPointerException if {@code out}, {@code propertyName} or {@code value} are
+     *                              {@code null}.
+     * @throws IOException if the sink throws.
+     * @see Text#property(String, Object)
+     * @since 1.0.3
+     */
+    @Contract("_, _, _ -> param1")
+    public <A extends Appendable> @NotNull A writeProperty(final @NotNull A out,
+            final @Nls(capitalization = Title) @NotNull CharSequence propertyName,
+            final @NotNull CharSequence value) throws IOException {
+        Preconditions.checkNotNull(propertyName, "propertyName");
+        Preconditions.checkNotNull(value, "value");
+
+        write(out, propertyPrefix, propertyName, propertyInfix);
+        escape(out, value);
+        out.append(CLOSE_EXTRA.string);
+        return out;
+    }
+
+    /**
+     * Writes a property as UTF-8.
+     *
+     * @author Sparky983
+     * @param out The buffer.
+     * @param propertyName The property name.
+     * @param value The value.
+     * @return The buffer.
+     * @throws NullPointerException if {@code out}, {@code propertyName} or {@code value} are
+     *                              {@code null}.
+     * @see Text#property(String, Object)
+     * @since 1.0.3
+     */
+    @Contract("_, _, _ -> param1")
+    public @NotNull ByteBuffer writeProperty(final @NotNull ByteBuffer out,
+            final @Nls(capitalization = Title) @NotNull CharSequence propertyName,
+            final @NotNull CharSequence value) {
+        Preconditions.checkNotNull(out, "out");
+        Preconditions.checkNotNull(propertyName, "propertyName");
+        Preconditions.checkNotNull(value, "value");
+
+        final int position = out.position();
+        try {
+            out.put(propertyPrefix.bytes);
+            escape(out, propertyName);
+            out.put(propertyInfix.bytes);
+            escape(out, value);
+            return out.put(CLOSE_EXTRA.bytes);
+        } catch (final BufferOverflowException e) {
+            out.position(position);
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the theme of this writer.
+     *
+     * @author Sparky983
+     * @return The theme.
+     * @since 1.0.3
+     */
+    @Contract(pure = true)
+    public @NotNull Theme getTheme() {
+        return theme;
+    }
+
+    /**
+     * Writes the {@code prefix}, the escaped {@code text} and the {@code suffix}.
+     *
+     * @author Sparky983
+     * @param out The sink.
+     * @param prefix The prefix.
+     * @param text The text.
+     * @param suffix The suffix.
+     * @param <A> The type of the sink.
+     * @return The sink.
+     * @throws IOException if the sink throws.
+     */
+    private static <A extends Appendable> @NotNull A write(final @NotNull A out,
+            final @NotNull Fragment prefix,
+            final @NotNull CharSequence text,
+            final @NotNull Fragment suffix) throws IOException {
+        Preconditions.checkNotNull(out, "out");
+
+        out.append(prefix.string);
+        escape(out, text);
+        out.append(suffix.string);
+        return out;
+    }
+
+    /**
+     * Writes the {@code prefix}, the escaped {@code text} and the {@code suffix} as UTF-8.
+     * <p>
+     * If they don't fit, the position of the buffer is restored before the
+     * {@link BufferOverflowException} is rethrown.
+     *
+     * @author Sparky983
+     * @param out The buffer.
+     * @param prefix The prefix.
+     * @param text The text.
+     * @param suffix The suffix.
+     * @return The buffer.
+     */
+    private static @NotNull ByteBuffer write(final @NotNull ByteBuffer out,
+            final @NotNull Fragment prefix,
+            final @NotNull CharSequence text,
+            final @NotNull Fragment suffix) {
+        Preconditions.checkNotNull(out, "out");
+
+        final int position = out.position();
+        try {
+            out.put(prefix.bytes);
+            escape(out, text);
+            return out.put(suffix.bytes);
+        } catch (final BufferOverflowException e) {
+            out.position(position);
+            throw e;
+        }
+    }
+
+    /**
+     * Appends the specified {@code text} escaped as the contents of a JSON string.
+     * <p>
+     * Runs of characters that don't need escaping are appended in bulk. Unpaired surrogates are
+     * escaped.
+     *
+     * @author Sparky983
+     * @param out The sink.
+     * @param text The text.
+     * @throws IOException if the sink throws.
+     */
+    private static void escape(final @NotNull Appendable out, final @NotNull CharSequence text)
+            throws IOException {
+        final int length = text.length();
+        int start = 0;
+        for (int i = 0; i < length; i++) {
+            final char c = text.charAt(i);
+            if (c >= 0x20 && c != '"' && c != '\\' && !Character.isSurrogate(c)) {
+                continue;
+            }
+            if (Character.isHighSurrogate(c) && i + 1 < length
+                    && Character.isLowSurrogate(text.charAt(i + 1))) {
+                i++;
+                continue;
+            }
+
+            out.append(text, start, i);
+            if (c == '"' || c == '\\') {
+                out.append('\\').append(c);
+            } else {
+                out.append("\\u").append(hexDigit(c >> 12)).append(hexDigit(c >> 8))
+                        .append(hexDigit(c >> 4)).append(hexDigit(c));
+            }
+            start = i + 1;
+        }
+        out.append(text, start, text.length());
+    }
+
+    /**
+     * Puts the specified {@code text} escaped as the contents of a JSON string, encoded as UTF-8.
+     * <p>
+     * Unpaired surrogates are escaped, like {@link #escape(Appendable, CharSequence)} does.
+     *
+     * @author Sparky983
+     * @param out The buffer.
+     * @param text The text.
+     */
+    private static void escape(final @NotNull ByteBuffer out, final @NotNull CharSequence text) {
+        final int length = text.length();
+        for (int i = 0; i < length; i++) {
+            final char c = text.charAt(i);
+            if (c < 0x80) {
+                if (c == '"' || c == '\\') {
+                    out.put((byte) '\\').put((byte) c);
+                } else if (c < 0x20) {
+                    putUnicodeEscape(out, c);
+                } else {
+                    out.put((byte) c);
+                }
+            } else if (c < 0x800) {
+                out.put((byte) (0xC0 | (c >> 6)))
+                        .put((byte) (0x80 | (c & 0x3F)));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length
+                    && Character.isLowSurrogate(text.charAt(i + 1))) {
+                final int codePoint = Character.toCodePoint(c, text.charAt(++i));
+                out.put((byte) (0xF0 | (codePoint >> 18)))
+                        .put((byte) (0x80 | ((codePoint >> 12) & 0x3F)))
+                        .put((byte) (0x80 | ((codePoint >> 6) & 0x3F)))
+                        .put((byte) (0x80 | (codePoint & 0x3F)));
+            } else if (Character.isSurrogate(c)) {
+                putUnicodeEscape(out, c);
+            } else {
+                out.put((byte) (0xE0 | (c >> 12)))
+                        .put((byte) (0x80 | ((c >> 6) & 0x3F)))
+                        .put((byte) (0x80 | (c & 0x3F)));
+            }
+        }
+    }
+
+    /**
+     * Puts the specified {@code c} as a JSON unicode escape.
+     *
+     * @author Sparky983
+     * @param out The buffer.
+     * @param c The character.
+     */
+    private static void putUnicodeEscape(final @NotNull ByteBuffer out, final char c) {
+        out.put((byte) '\\').put((byte) 'u')
+                .put((byte) hexDigit(c >> 12)).put((byte) hexDigit(c >> 8))
+                .put((byte) hexDigit(c >> 4)).put((byte) hexDigit(c));
+    }
+
+    /**
+     * Returns the lowercase hexadecimal digit of the lowest 4 bits of {@code value}.
+     *
+     * @author Sparky983
+     * @param value The value.
+     * @return The digit.
+     */
+    private static char hexDigit(final int value) {
+        return Character.forDigit(value & 0xF, 16);
+    }
+
+    /**
+     * Returns the JSON name of the specified {@code color}.
+     *
+     * @author Sparky983
+     * @param color The color.
+     * @return The name.
+     */
+    private static @NotNull String color(final @NotNull TextColor color) {
+        if (color instanceof NamedTextColor) {
+            return color.toString();
+        }
+        return color.asHexString();
+    }
+
+    /**
+     * Builds the prefix of an information message, up to the opening quote of the message.
+     *
+     * @author Sparky983
+     * @param category The category.
+     * @return The prefix.
+     */
+    private @NotNull Fragment createInformationPrefix(final @NotNull Category category) {
+        final StringBuilder prefix = new StringBuilder("{\"text\":\"\",\"extra\":[{\"bold\":true,")
+                .append("\"color\":\"").append(color(theme.main())).append("\",\"text\":\"");
+        try {
+            escape(prefix, category.getName());
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e); // StringBuilder doesn't throw
+        }
+        return new Fragment(prefix
+                .append(" \"},{\"color\":\"").append(color(theme.darkGray()))
+                .append("\",\"text\":\"").append(Text.SEPARATOR).append(" \"},{\"text\":\"")
+                .toString());
+    }
+
+    /**
+     * A static part of a message, encoded once as both a string and UTF-8 bytes.
+     *
+     * @author Sparky983
+     */
+    private static final class Fragment {
+
+        final String string;
+        final byte[] bytes;
+
+        /**
+         * Constructs a new {@code Fragment}.
+         *
+         * @author Sparky983
+         * @param string The fragment.
+         */
+        Fragment(final @NotNull String string) {
+            this.string = string;
+            this.bytes = string.getBytes(StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,532 @@
+/*
+ * Copyright (c) 2022 OreField
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.orefield.text.serializer;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.serializer.gson.GsonComponentSerializer;
+import net.orefield.text.util.Preconditions;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+import org.jetbrains.annotations.VisibleForTesting;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A catalog of predefined messages, stored as a binary snapshot file.
+ * <p>
+ * Render the predefined messages once and {@link #write(Path, Map) write} them to a snapshot.
+ * Later, {@link #open(Path) open} the snapshot instead of rendering the messages again: the file
+ * is memory-mapped and only its index is read, and each message is deserialized the first time
+ * it is {@link #get(String) requested}:
+ * <pre>
+ * if (!Files.exists(snapshot)) {
+ *     Map&lt;String, Component&gt; messages = new LinkedHashMap&lt;&gt;();
+ *     messages.put("player-not-found", text.error(Component.text("Player not found.")));
+ *     MessageCatalog.write(snapshot, messages);
+ * }
+ * MessageCatalog catalog = MessageCatalog.open(snapshot);
+ * </pre>
+ * <p>
+ * Every snapshot stores a fingerprint of the definitions it was written from. To reject a stale
+ * snapshot, write it with {@link #write(Path, Map, long)} and a fingerprint of the sources the
+ * messages are rendered from, such as a hash of their configuration file, and open it with
+ * {@link #open(Path, long)} and the fingerprint of the current sources.
+ * <p>
+ * The snapshot starts with a magic number, a format version and the fingerprint, followed by the
+ * amount of messages, an index of each message's key and the position of its data, and the
+ * data: each message serialized to JSON by adventure's
+ * {@link GsonComponentSerializer#gson() JSON serializer}, encoded as UTF-8.
+ * <p>
+ * Catalogs are immutable and thread-safe, and lookups are lock-free.
+ *
+ * @author Sparky983
+ * @since 1.0.3
+ */
+public final class MessageCatalog {
+
+    /**
+     * The magic number every snapshot starts with ({@code "OFMC"}).
+     */
+    @VisibleForTesting
+    static final int MAGIC = 0x4F464D43;
+
+    /**
+     * The current version of the snapshot format.
+     */
+    @VisibleForTesting
+    static final int VERSION = 2;
+
+    /**
+     * The size of the smallest index entry: the length of an empty key, an offset and a length.
+     */
+    private static final int MINIMUM_INDEX_ENTRY_SIZE = 3 * Integer.BYTES;
+
+    private static final long FNV_OFFSET_BASIS = 0xCBF29CE484222325L;
+    private static final long FNV_PRIME = 0x100000001B3L;
+
+    private final long fingerprint;
+    private final ByteBuffer data;
+    private final Map<String, Integer> indexes;
+    private final int[] offsets;
+    private final int[] lengths;
+    private final AtomicReferenceArray<Component> messages;
+
+    private MessageCatalog(final long fingerprint,
+            final @NotNull ByteBuffer data,
+            final @NotNull Map<String, Integer> indexes,
+            final int @NotNull [] offsets,
+            final int @NotNull [] lengths) {
+        this.fingerprint = fingerprint;
+        this.data = data;
+        this.indexes = indexes;
+        this.offsets = offsets;
+        this.lengths = lengths;
+        this.messages = new AtomicReferenceArray<>(offsets.length);
+    }
+
+    /**
+     * Writes the specified {@code messages} as a snapshot to the specified {@code file}, with the
+     * {@link #fingerprint(Map) fingerprint} of the {@code messages}.
+     * <p>
+     * The snapshot is written to a temporary file next to {@code file} first, then moved over
+     * it, so a catalog never observes a partially written snapshot.
+     *
+     * @author Sparky983
+     * @param file The file.
+     * @param messages The messages by their keys.
+     * @throws NullPointerException if {@code file}, {@code messages} or any of its keys or values
+     *                              are {@code null}.
+     * @throws IOException if the snapshot couldn't be written.
+     * @since 1.0.3
+     */
+    public static void write(final @NotNull Path file,
+            final @NotNull Map<@NotNull String, ? extends @NotNull Component> messages)
+            throws IOException {
+        Preconditions.checkNotNull(file, "file");
+        Preconditions.checkNotNull(messages, "messages");
+
+        final byte[][] keys = new byte[messages.size()][];
+        final byte[][] values = new byte[messages.size()][];
+        encode(messages, keys, values);
+        write(file, keys, values, fingerprint(keys, values));
+    }
+
+    /**
+     * Writes the specified {@code messages} as a snapshot to the specified {@code file}, with the
+     * specified {@code fingerprint} of the definitions they were rendered from.
+     * <p>
+     * The snapshot is written to a temporary file next to {@code file} first, then moved over
+     * it, so a catalog never observes a partially written snapshot.
+     *
+     * @author Sparky983
+     * @param file The file.
+     * @param messages The messages by their keys.
+     * @param fingerprint The fingerprint of the definitions.
+     * @throws NullPointerException if {@code file}, {@code messages} or any of its keys or values
+     *                              are {@code null}.
+     * @throws IOException if the snapshot couldn't be written.
+     * @since 1.0.3
+     */
+    public static void write(final @NotNull Path file,
+            final @NotNull Map<@NotNull String, ? extends @NotNull Component> messages,
+            final long fingerprint) throws IOException {
+        Preconditions.checkNotNull(file, "file");
+        Preconditions.checkNotNull(messages, "messages");
+
+        final byte[][] keys = new byte[messages.size()][];
+        final byte[][] values = new byte[messages.size()][];
+        encode(messages, keys, values);
+        write(file, keys, values, fingerprint);
+    }
+
+    /**
+     * Returns the fingerprint of the specified {@code messages}: a 64-bit FNV-1a hash of their
+     * keys and serialized values, in iteration order.
+     *
+     * @author Sparky983
+     * @param messages The messages by their keys.
+     * @return The fingerprint.
+     * @throws NullPointerException if {@code messages} or any of its keys or values are
+     *                              {@code null}.
+     * @since 1.0.3
+     */
+    @Contract(pure = true)
+    public static long fingerprint(
+            final @NotNull Map<@NotNull String, ? extends @NotNull Component> messages) {
+        Preconditions.checkNotNull(messages, "messages");
+
+        final byte[][] keys = new byte[messages.size()][];
+        final byte[][] values = new byte[messages.size()][];
+        encode(messages, keys, values);
+        return fingerprint(keys, values);
+    }
+
+    /**
+     * Encodes the keys and the serialized values of the specified {@code messages} as UTF-8.
+     *
+     * @author Sparky983
+     * @param messages The messages by their keys.
+     * @param keys The array to store the keys in.
+     * @param values The array to store the values in.
+     * @throws NullPointerException if any of the keys or values are {@code null}.
+     */
+    private static void encode(
+            final @NotNull Map<@NotNull String, ? extends @NotNull Component> messages,
+            final byte @NotNull [] @NotNull [] keys,
+            final byte @NotNull [] @NotNull [] values) {
+        int i = 0;
+        for (final Map.Entry<String, ? extends Component> message : messages.entrySet()) {
+            Preconditions.checkElementNotNull(message.getKey(), "messages", i);
+            Preconditions.checkElementNotNull(message.getValue(), "messages", i);
+            keys[i] = message.getKey().getBytes(StandardCharsets.UTF_8);
+            values[i] = GsonComponentSerializer.gson().serialize(message.getValue())
+                    .getBytes(StandardCharsets.UTF_8);
+            i++;
+        }
+    }
+
+    /**
+     * Returns the fingerprint of the specified encoded {@code keys} and {@code values}.
+     *
+     * @author Sparky983
+     * @param keys The encoded keys.
+     * @param values The encoded values.
+     * @return The fingerprint.
+     */
+    private static long fingerprint(final byte @NotNull [] @NotNull [] keys,
+            final byte @NotNull [] @NotNull [] values) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < keys.length; i++) {
+            hash = hash(hash, keys[i]);
+            hash = hash(hash, values[i]);
+        }
+        return hash;
+    }
+
+    /**
+     * Continues the specified FNV-1a {@code hash} with the length and the specified
+     * {@code bytes}.
+     * <p>
+     * The length is hashed as well, so moving bytes between adjacent arrays changes the hash.
+     *
+     * @author Sparky983
+     * @param hash The hash so far.
+     * @param bytes The bytes.
+     * @return The hash.
+     */
+    private static long hash(long hash, final byte @NotNull [] bytes) {
+        for (int shift = 24; shift >= 0; shift -= 8) {
+            hash = (hash ^ ((bytes.length >>> shift) & 0xFF)) * FNV_PRIME;
+        }
+        for (final byte b : bytes) {
+            hash = (hash ^ (b & 0xFF)) * FNV_PRIME;
+        }
+        return hash;
+    }
+
+    /**
+     * Writes the specified encoded {@code keys} and {@code values} as a snapshot to the specified
+     * {@code file}.
+     *
+     * @author Sparky983
+     * @param file The file.
+     * @param keys The encoded keys.
+     * @param values The encoded values.
+     * @param fingerprint The fingerprint.
+     * @throws IOException if the snapshot couldn't be written.
+     */
+    private static void write(final @NotNull Path file,
+            final byte @NotNull [] @NotNull [] keys,
+            final byte @NotNull [] @NotNull [] values,
+            final long fingerprint) throws IOException {
+        final Path absoluteFile = file.toAbsolutePath();
+        final Path temporaryFile = Files.createTempFile(absoluteFile.getParent(),
+                absoluteFile.getFileName().toString(), ".tmp");
+        try {
+            try (OutputStream stream = Files.newOutputStream(temporaryFile);
+                 DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeLong(fingerprint);
+                out.writeInt(keys.length);
+
+                int offset = 0;
+                for (int j = 0; j < keys.length; j++) {
+                    out.writeInt(keys[j].length);
+                    out.write(keys[j]);
+                    out.writeInt(offset);
+                    out.writeInt(values[j].length);
+                    offset += values[j].length;
+                }
+                for (final byte[] value : values) {
+                    out.write(value);
+                }
+            }
+
+            try {
+                Files.move(temporaryFile, absoluteFile, StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+            } catch (final AtomicMoveNotSupportedException e) {
+                Files.move(temporaryFile, absoluteFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+
+    /**
+     * Opens the snapshot at the specified {@code file}, whatever its fingerprint.
+     * <p>
+     * The file is memory-mapped and its index is read; messages are only deserialized when they
+     * are first requested. The file must not be modified while the catalog is in use; write new
+     * snapshots with {@link #write(Path, Map)}, which replaces the file instead.
+     *
+     * @author Sparky983
+     * @param file The file.
+     * @return The catalog.
+     * @throws NullPointerException if {@code file} is {@code null}.
+     * @throws IOException if the file couldn't be read or isn't a snapshot of this version.
+     * @since 1.0.3
+     */
+    @Contract("_ -> new")
+    public static @NotNull MessageCatalog open(final @NotNull Path file) throws IOException {
+        Preconditions.checkNotNull(file, "file");
+
+        return read(file, null);
+    }
+
+    /**
+     * Opens the snapshot at the specified {@code file}, if it was written with the specified
+     * {@code fingerprint}.
+     * <p>
+     * The file is memory-mapped and its index is read; messages are only deserialized when they
+     * are first requested. The file must not be modified while the catalog is in use; write new
+     * snapshots with {@link #write(Path, Map, long)}, which replaces the file instead.
+     *
+     * @author Sparky983
+     * @param file The file.
+     * @param fingerprint The fingerprint of the current definitions.
+     * @return The catalog.
+     * @throws NullPointerException if {@code file} is {@code null}.
+     * @throws IOException if the file couldn't be read, isn't a snapshot of this version or was
+     *                     written with another fingerprint.
+     * @since 1.0.3
+     */
+    @Contract("_, _ -> new")
+    public static @NotNull MessageCatalog open(final @NotNull Path file, final long fingerprint)
+            throws IOException {
+        Preconditions.checkNotNull(file, "file");
+
+        return read(file, fingerprint);
+    }
+
+    /**
+     * Reads the snapshot at the specified {@code file}.
+     *
+     * @author Sparky983
+     * @param file The file.
+     * @param expectedFingerprint The fingerprint the snapshot must have been written with, or
+     *                            {@code null} to accept any.
+     * @return The catalog.
+     * @throws IOException if the file couldn't be read, isn't a snapshot of this version or was
+     *                     written with another fingerprint.
+     */
+    private static @NotNull MessageCatalog read(final @NotNull Path file,
+            final @Nullable Long expectedFingerprint) throws IOException {
+        final ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        try {
+            if (buffer.getInt() != MAGIC) {
+                throw new IOException(file + " isn't a message catalog snapshot");
+            }
+            final int version = buffer.getInt();
+            if (version != VERSION) {
+                throw new IOException(
+                        "Unsupported message catalog snapshot version " + version + " in " + file);
+            }
+            final long fingerprint = buffer.getLong();
+            if (expectedFingerprint != null && fingerprint != expectedFingerprint) {
+                throw new IOException("Stale message catalog snapshot " + file);
+            }
+
+            // Check every length against the remaining bytes before allocating for it, so a
+            // corrupt snapshot can't cause huge allocations
+            final int size = buffer.getInt();
+            if (size < 0 || size > buffer.remaining() / MINIMUM_INDEX_ENTRY_SIZE) {
+                throw new IOException("Corrupt message catalog snapshot " + file);
+            }
+            final Map<String, Integer> indexes = new LinkedHashMap<>();
+            final int[] offsets = new int[size];
+            final int[] lengths = new int[size];
+            for (int i = 0; i < size; i++) {
+                final int keyLength = buffer.getInt();
+                if (keyLength < 0 || keyLength > buffer.remaining()) {
+                    throw new IOException("Corrupt message catalog snapshot " + file);
+                }
+                final byte[] key = new byte[keyLength];
+                buffer.get(key);
+                indexes.put(new String(key, StandardCharsets.UTF_8), i);
+                offsets[i] = buffer.getInt();
+                lengths[i] = buffer.getInt();
+            }
+
+            final ByteBuffer data = buffer.slice();
+            for (int i = 0; i < size; i++) {
+                if (offsets[i] < 0 || lengths[i] < 0
+                        || (long) offsets[i] + lengths[i] > data.capacity()) {
+                    throw new IOException("Corrupt message catalog snapshot " + file);
+                }
+            }
+            return new MessageCatalog(fingerprint, data, Collections.unmodifiableMap(indexes),
+                    offsets, lengths);
+        } catch (final BufferUnderflowException e) {
+            throw new IOException("Truncated message catalog snapshot " + file, e);
+        }
+    }
+
+    /**
+     * Returns the fingerprint of the definitions the snapshot was written from.
+     *
+     * @author Sparky983
+     * @return The fingerprint.
+     * @since 1.0.3
+     */
+    @Contract(pure = true)
+    public long getFingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * Returns the message with the specified {@code key}, deserializing it if it is requested for
+     * the first time.
+     *
+     * @author Sparky983
+     * @param key The key.
+     * @return The message, or {@code null} if there is no message with the {@code key}.
+     * @throws NullPointerException if {@code key} is {@code null}.
+     * @since 1.0.3
+     */
+    public @Nullable Component get(final @NotNull String key) {
+        Preconditions.checkNotNull(key, "key");
+
+        final Integer index = indexes.get(key);
+        if (index == null) {
+            return null;
+        }
+
+        final Component message = messages.get(index);
+        if (message != null) {
+            return message;
+        }
+
+        final Component deserialized = deserialize(index);
+        // Keep the first deserialized message, so every caller gets the same instance
+        if (messages.compareAndSet(index, null, deserialized)) {
+            return deserialized;
+        }
+        return messages.get(index);
+    }
+
+    /**
+     * Returns the keys of the messages, in the order they were written.
+     *
+     * @author Sparky983
+     * @return The keys.
+     * @since 1.0.3
+     */
+    @Contract(pure = true)
+    public @NotNull @Unmodifiable Set<@NotNull String> keys() {
+        return indexes.keySet();
+    }
+
+    /**
+     * Returns the amount of messages.
+     *
+     * @author Sparky983
+     * @return The amount of messages.
+     * @since 1.0.3
+     */
+    @Contract(pure = true)
+    public int size() {
+        return offsets.length;
+    }
+
+    /**
+     * Returns the amount of messages that have been deserialized.
+     *
+     * @author Sparky983
+     * @return The amount of messages.
+     */
+    @VisibleForTesting
+    int deserializedSize() {
+        int deserialized = 0;
+        for (int i = 0; i < messages.length(); i++) {
+            if (messages.get(i) != null) {
+                deserialized++;
+            }
+        }
+        return deserialized;
+    }
+
+    /**
+     * Deserializes the message at the specified {@code index}.
+     *
+     * @author Sparky983
+     * @param index The index.
+     * @return The message.
+     */
+    private @NotNull Component deserialize(final int index) {
+        // The offset and length were checked against the data when the snapshot was opened
+        final byte[] json = new byte[lengths[index]];
+        // Read through a duplicate, as the position of the shared buffer isn't thread-safe
+        final ByteBuffer message = data.duplicate();
+        message.position(offsets[index]);
+        message.get(json);
+
+        return GsonComponentSerializer.gson().deserialize(
+                new String(json, StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2022 OreField
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.orefield.text.serializer;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.serializer.ComponentSerializer;
+import net.orefield.text.util.Preconditions;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A {@link Component} together with its pre-serialized wire formats.
+ * <p>
+ * All formats are serialized once when the {@code SerializedComponent} is created, so instances
+ * are immutable and can be shared between threads.
+ *
+ * @author Sparky983
+ * @see SerializedTextCache
+ * @since 1.0.3
+ */
+public final class SerializedComponent {
+
+    private final Component component;
+    private final String json;
+    private final ByteBuffer jsonBytes;
+    private final String legacy;
+    private final String plain;
+
+    /**
+     * Constructs a new {@code SerializedComponent} by serializing the specified
+     * {@code component} with each serializer.
+     *
+     * @author Sparky983
+     * @param component The component.
+     * @param jsonSerializer The JSON serializer.
+     * @param legacySerializer The legacy serializer.
+     * @param plainSerializer The plain text serializer.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    SerializedComponent(final @NotNull Component component,
+            final @NotNull ComponentSerializer<Component, ?, String> jsonSerializer,
+            final @NotNull ComponentSerializer<Component, ?, String> legacySerializer,
+            final @NotNull ComponentSerializer<Component, ?, String> plainSerializer) {
+        this.component = Preconditions.checkNotNull(component, "component");
+        this.json = Preconditions.checkNotNull(jsonSerializer, "jsonSerializer")
+                .serialize(component);
+        this.jsonBytes = ByteBuffer.wrap(json.getBytes(StandardCharsets.UTF_8))
+                .asReadOnlyBuffer();
+        this.legacy = Preconditions.checkNotNull(legacySerializer, "legacySerializer")
+                .serialize(component);
+        this.plain = Preconditions.checkNotNull(plainSerializer, "plainSerializer")
+                .serialize(component);
+    }
+
+    /**
+     * Returns the component.
+     *
+     * @author Sparky983
+     * @return The component.
+     * @since 1.0.3
+     */
+    @Contract(pure = true)
+    public @NotNull Component component() {
+        return component;
+    }
+
+    /**
+     * Returns the component serialized as JSON.
+     *
+     * @author Sparky983
+     * @return The JSON.
+     * @since 1.0.3
+     */
+    @Contract(pure = true)
+    public @NotNull String json() {
+        return json;
+    }
+
+    /**
+     * Returns the component serialized as UTF-8 encoded JSON.
+     * <p>
+     * The returned buffer is read-only and has its own position and limit, so it can be consumed
+     * without affecting other callers. The bytes themselves are shared and never copied.
+     *
+     * @author Sparky983
+     * @return The UTF-8 encoded JSON.
+     * @since 1.0.3
+     */
+    @Contract(value = "-> new", pure = true)
+    public @NotNull ByteBuffer jsonBytes() {
+        return jsonBytes.duplicate();
+    }
+
+    /**
+     * Returns the component serialized in the legacy format.
+     *
+     * @author Sparky983
+     * @return The legacy text.
+     * @since 1.0.3
+     */
+    @Contract(pure = true)
+    public @NotNull String legacy() {
+        return legacy;
+    }
+
+    /**
+     * Returns the component serialized as plain text.
+     *
+     * @author Sparky983
+     * @return The plain text.
+     * @since 1.0.3
+     */
+    @Contract(pure = true)
+    public @NotNull String plain() {
+        return plain;
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "SerializedComponent(" +
+            "component=" + component +
+            ", json='" + json + "'" +
+            ')';
+    }
+}
@@ -0,0 +1,235 @@
+/*
+ * Copyright (c) 2022 OreField
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.orefield.text.serializer;
+
+import static org.jetbrains.annotations.Nls.Capitalization.Title;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.serializer.ComponentSerializer;
+import net.kyori.adventure.text.serializer.gson.GsonComponentSerializer;
+import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
+import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
+import net.orefield.text.Category;
+import net.orefield.text.adventure.AdventureText;
+import net.orefield.text.adventure.AdventureTexts;
+import net.orefield.text.util.BoundedCache;
+import net.orefield.text.util.Preconditions;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.Nls;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.VisibleForTesting;
+
+/**
+ * A cache of the serialized forms of static messages.
+ * <p>
+ * Messages that never change (the {@link AdventureText#orefield() OreField title}, category
+ * titles and fixed error and warning texts) only need to be serialized once. This cache serializes
+ * them to JSON, the legacy section sign format and plain text the first time they are requested
+ * and returns the same {@link SerializedComponent} afterwards.
+ * <p>
+ * Each cache is bounded, so it is safe to call with arbitrary input, but it only pays off for
+ * messages that repeat. Error and warning messages are keyed by the message component, so prefer
+ * passing constant components.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @author Sparky983
+ * @since 1.0.3
+ */
+public final class SerializedTextCache {
+
+    /**
+     * The maximum amount of serialized components held by each cache.
+     */
+    @VisibleForTesting
+    static final int MAXIMUM_CACHE_SIZE = 256;
+
+    private final AdventureText text;
+    private final ComponentSerializer<Component, ?, String> jsonSerializer;
+    private final ComponentSerializer<Component, ?, String> legacySerializer;
+    private final ComponentSerializer<Component, ?, String> plainSerializer;
+
+    private final SerializedComponent orefield;
+
+    private final BoundedCache<String, SerializedComponent> titles;
+    private final BoundedCache<Category, SerializedComponent> categoryTitles;
+    private final BoundedCache<Component, SerializedComponent> errors;
+    private final BoundedCache<Component, SerializedComponent> warnings;
+    private final BoundedCache<Component, SerializedComponent> components;
+
+    /**
+     * Constructs a new {@code SerializedTextCache} for the {@link AdventureTexts#adventureText()
+     * shared AdventureText} using adventure's default JSON, legacy section sign and plain text
+     * serializers.
+     *
+     * @author Sparky983
+     * @since 1.0.3
+     */
+    public SerializedTextCache() {
+        this(AdventureTexts.adventureText(),
+                GsonComponentSerializer.gson(),
+                LegacyComponentSerializer.legacySection(),
+                PlainTextComponentSerializer.plainText());
+    }
+
+    /**
+     * Constructs a new {@code SerializedTextCache} with the specified {@code text} and
+     * serializers.
+     *
+     * @author Sparky983
+     * @param text The text used to render messages.
+     * @param jsonSerializer The JSON serializer.
+     * @param legacySerializer The legacy serializer.
+     * @param plainSerializer The plain text serializer.
+     * @throws NullPointerException if any argument is {@code null}.
+     * @since 1.0.3
+     */
+    public SerializedTextCache(final @NotNull AdventureText text,
+            final @NotNull ComponentSerializer<Component, ?, String> jsonSerializer,
+            final @NotNull ComponentSerializer<Component, ?, String> legacySerializer,
+            final @NotNull ComponentSerializer<Component, ?, String> plainSerializer) {
+        this.text = Preconditions.checkNotNull(text, "text");
+        this.jsonSerializer = Preconditions.checkNotNull(jsonSerializer, "jsonSerializer");
+        this.legacySerializer = Preconditions.checkNotNull(legacySerializer, "legacySerializer");
+        this.plainSerializer = Preconditions.checkNotNull(plainSerializer, "plainSerializer");
+
+        this.orefield = serialize(text.orefield());
+        this.titles = new BoundedCache<>(MAXIMUM_CACHE_SIZE,
+                (title) -> serialize(text.title(title)));
+        this.categoryTitles = new BoundedCache<>(MAXIMUM_CACHE_SIZE,
+                (category) -> serialize(text.title(category)));
+        this.errors = new BoundedCache<>(MAXIMUM_CACHE_SIZE,
+                (message) -> serialize(text.error(message)));
+        this.warnings = new BoundedCache<>(MAXIMUM_CACHE_SIZE,
+                (message) -> serialize(text.warning(message)));
+        this.components = new BoundedCache<>(MAXIMUM_CACHE_SIZE, this::serialize);
+    }
+
+    /**
+     * Returns the serialized {@link AdventureText#orefield() OreField title}.
+     *
+     * @author Sparky983
+     * @return The serialized title.
+     * @since 1.0.3
+     */
+    @Contract(pure = true)
+    public @NotNull SerializedComponent orefield() {
+        return orefield;
+    }
+
+    /**
+     * Returns the serialized {@link AdventureText#title(String) title}.
+     *
+     * @author Sparky983
+     * @param title The title.
+     * @return The serialized title.
+     * @throws NullPointerException if {@code title} is {@code null}.
+     * @since 1.0.3
+     */
+    @Contract(pure = true)
+    public @NotNull SerializedComponent title(
+            final @Nls(capitalization = Title) @NotNull String title) {
+        Preconditions.checkNotNull(title, "title");
+
+        return titles.get(title);
+    }
+
+    /**
+     * Returns the serialized {@link AdventureText#title(Category) title} of the specified
+     * {@code category}.
+     *
+     * @author Sparky983
+     * @param category The category.
+     * @return The serialized title.
+     * @throws NullPointerException if {@code category} is {@code null}.
+     * @since 1.0.3
+     */
+    @Contract(pure = true)
+    public @NotNull SerializedComponent title(final @NotNull Category category) {
+        Preconditions.checkNotNull(category, "category");
+
+        return categoryTitles.get(category);
+    }
+
+    /**
+     * Returns the serialized {@link AdventureText#error(Component) error message}.
+     *
+     * @author Sparky983
+     * @param message The error message.
+     * @return The serialized error message.
+     * @throws NullPointerException if {@code message} is {@code null}.
+     * @since 1.0.3
+     */
+    @Contract(pure = true)
+    public @NotNull SerializedComponent error(final @NotNull Component message) {
+        Preconditions.checkNotNull(message, "message");
+
+        return errors.get(message);
+    }
+
+    /**
+     * Returns the serialized {@link AdventureText#warning(Component) warning message}.
+     *
+     * @author Sparky983
+     * @param message The warning message.
+     * @return The serialized warning message.
+     * @throws NullPointerException if {@code message} is {@code null}.
+     * @since 1.0.3
+     */
+    @Contract(pure = true)
+    public @NotNull SerializedComponent warning(final @NotNull Component message) {
+        Preconditions.checkNotNull(message, "message");
+
+        return warnings.get(message);
+    }
+
+    /**
+     * Returns the serialized form of any other static {@code component}.
+     *
+     * @author Sparky983
+     * @param component The component.
+     * @return The serialized component.
+     * @throws NullPointerException if {@code component} is {@code null}.
+     * @since 1.0.3
+     */
+    @Contract(pure = true)
+    public @NotNull SerializedComponent component(final @NotNull Component component) {
+        Preconditions.checkNotNull(component, "component");
+
+        return components.get(component);
+    }
+
+    /**
+     * Serializes the specified {@code component} with this cache's serializers, without caching
+     * it.
+     *
+     * @author Sparky983
+     * @param component The component.
+     * @return The serialized component.
+     */
+    private @NotNull SerializedComponent serialize(final @NotNull Component component) {
+        return new SerializedComponent(component, jsonSerializer, legacySerializer,
+                plainSerializer);
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2022 OreField
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.orefield.text.serializer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.serializer.gson.GsonComponentSerializer;
+import net.orefield.text.Category;
+import net.orefield.text.adventure.AdventureText;
+import net.orefield.text.adventure.AdventureTexts;
+import net.orefield.text.adventure.Theme;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+
+@SuppressWarnings("ConstantConditions")
+class ChatJsonWriterTest {
+
+    private static final String MESSAGE = "Say \"hi\" \\ to \u00e9l\u00e8ve \u2603 \uD83D\uDE00\n";
+
+    private final ChatJsonWriter writer = new ChatJsonWriter();
+
+    private static Component deserialize(final CharSequence json) {
+        return GsonComponentSerializer.gson().deserialize(json.toString());
+    }
+
+    private static String decode(final ByteBuffer buffer) {
+        buffer.flip();
+        return StandardCharsets.UTF_8.decode(buffer).toString();
+    }
+
+    @Test
+    void write_MatchesAdventureText() throws IOException {
+        final Component message = Component.text(MESSAGE);
+
+        assertEquals(AdventureTexts.title("Title"),
+                deserialize(writer.writeTitle(new StringBuilder(), "Title")));
+        assertEquals(AdventureTexts.information(Category.CHAT, message),
+                deserialize(writer.writeInformation(new StringBuilder(), Category.CHAT, MESSAGE)));
+        assertEquals(AdventureTexts.error(message),
+                deserialize(writer.writeError(new StringBuilder(), MESSAGE)));
+        assertEquals(AdventureTexts.warning(message),
+                deserialize(writer.writeWarning(new StringBuilder(), MESSAGE)));
+        assertEquals(AdventureTexts.callToAction(message),
+                deserialize(writer.writeCallToAction(new StringBuilder(), MESSAGE)));
+        assertEquals(AdventureTexts.property("Name", message),
+                deserialize(writer.writeProperty(new StringBuilder(), "Name", MESSAGE)));
+    }
+
+    @Test
+    void write_ByteBuffer_EncodesSameJsonAsUtf8() throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(1024);
+
+        assertSame(buffer, writer.writeInformation(buffer, Category.CHAT, MESSAGE));
+        assertEquals(writer.writeInformation(new StringBuilder(), Category.CHAT, MESSAGE)
+                .toString(), decode(buffer));
+
+        buffer.clear();
+        writer.writeProperty(buffer, "Name", MESSAGE);
+        assertEquals(writer.writeProperty(new StringBuilder(), "Name", MESSAGE).toString(),
+                decode(buffer));
+    }
+
+    @Test
+    void write_CharBuffer_WritesIntoBuffer() throws IOException {
+        final CharBuffer buffer = CharBuffer.allocate(256);
+
+        writer.writeError(buffer, "Oops");
+        buffer.flip();
+
+        assertEquals(AdventureTexts.error(Component.text("Oops")), deserialize(buffer));
+    }
+
+    @Test
+    void write_ThrowsBufferOverflowException_WhenMessageDoesNotFit() {
+        assertThrows(BufferOverflowException.class,
+                () -> writer.writeError(ByteBuffer.allocate(8), "Oops"));
+    }
+
+    @Test
+    void write_RestoresPosition_WhenMessageDoesNotFit() throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(70);
+        buffer.put((byte) 'x');
+
+        assertThrows(BufferOverflowException.class,
+                () -> writer.writeInformation(buffer, Category.CHAT, MESSAGE));
+        assertEquals(1, buffer.position());
+        assertThrows(BufferOverflowException.class,
+                () -> writer.writeProperty(buffer, "Name", MESSAGE));
+        assertEquals(1, buffer.position());
+
+        final ByteBuffer larger = ByteBuffer.allocate(1024);
+        buffer.flip();
+        larger.put(buffer);
+        writer.writeInformation(larger, Category.CHAT, MESSAGE);
+        assertEquals("x" + writer.writeInformation(new StringBuilder(), Category.CHAT, MESSAGE),
+                decode(larger));
+    }
+
+    @Test
+    void write_EscapesUnpairedSurrogatesInEverySink() throws IOException {
+        final String message = "a\uD800b\uDC00";
+        final ByteBuffer buffer = ByteBuffer.allocate(1024);
+
+        writer.writeProperty(buffer, "\uDBFF", message);
+        final String json = writer.writeProperty(new StringBuilder(), "\uDBFF", message)
+                .toString();
+
+        assertEquals(json, decode(buffer));
+        assertEquals(AdventureTexts.property("\uDBFF", Component.text(message)),
+                deserialize(json));
+    }
+
+    @Test
+    void write_ThrowsNullPointerException_WhenArgumentsAreNull() {
+        assertThrows(NullPointerException.class,
+                () -> writer.writeError((StringBuilder) null, "Oops"));
+        assertThrows(NullPointerException.class,
+                () -> writer.writeError((ByteBuffer) null, "Oops"));
+        assertThrows(NullPointerException.class,
+                () -> writer.writeError(new StringBuilder(), null));
+        assertThrows(NullPointerException.class,
+                () -> writer.writeInformation(new StringBuilder(), null, "Hello"));
+        assertThrows(NullPointerException.class,
+                () -> writer.writeProperty(ByteBuffer.allocate(64), null, "Value"));
+        assertThrows(NullPointerException.class, () -> new ChatJsonWriter(null));
+    }
+
+    @Test
+    void constructor_UsesThemeColors() throws IOException {
+        final Theme theme = Theme.DEFAULT
+                .withMain(NamedTextColor.DARK_PURPLE)
+                .withError(NamedTextColor.DARK_RED);
+        final AdventureText text = AdventureTexts.adventureText().withTheme(theme);
+        final ChatJsonWriter writer = new ChatJsonWriter(theme);
+
+        assertEquals(text.information(Category.CHAT, Component.text("Hello")),
+                deserialize(writer.writeInformation(new StringBuilder(), Category.CHAT, "Hello")));
+        assertEquals(text.error(Component.text("Oops")),
+                deserialize(writer.writeError(new StringBuilder(), "Oops")));
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2022 OreField
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.orefield.text.serializer;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import net.kyori.adventure.text.Component;
+import net.orefield.text.Category;
+import net.orefield.text.adventure.AdventureTexts;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+@SuppressWarnings("ConstantConditions")
+class MessageCatalogTest {
+
+    @TempDir
+    Path directory;
+
+    private static Map<String, Component> messages() {
+        final Map<String, Component> messages = new LinkedHashMap<>();
+        messages.put("player-not-found",
+                AdventureTexts.error(Component.text("Player not found.")));
+        messages.put("maintenance", AdventureTexts.warning(Component.text("Maintenance soon.")));
+        messages.put("vote", AdventureTexts.callToAction(Component.text("VOTE \u2192 NOW")));
+        messages.put("welcome",
+                AdventureTexts.information(Category.OREFIELD, Component.text("Welcome!")));
+        return messages;
+    }
+
+    @Test
+    void open_ReadsWrittenMessages() throws IOException {
+        final Path file = directory.resolve("messages.catalog");
+        MessageCatalog.write(file, messages());
+
+        final MessageCatalog catalog = MessageCatalog.open(file);
+
+        assertEquals(4, catalog.size());
+        assertArrayEquals(messages().keySet().toArray(), catalog.keys().toArray());
+        for (final Map.Entry<String, Component> message : messages().entrySet()) {
+            assertEquals(message.getValue(), catalog.get(message.getKey()));
+        }
+        assertNull(catalog.get("unknown"));
+    }
+
+    @Test
+    void get_DeserializesLazilyAndOnce() throws IOException {
+        final Path file = directory.resolve("messages.catalog");
+        MessageCatalog.write(file, messages());
+        final MessageCatalog catalog = MessageCatalog.open(file);
+
+        assertEquals(0, catalog.deserializedSize());
+        final Component message = catalog.get("vote");
+        assertEquals(1, catalog.deserializedSize());
+        assertSame(message, catalog.get("vote"));
+    }
+
+    @Test
+    void write_ReplacesExistingSnapshot() throws IOException {
+        final Path file = directory.resolve("messages.catalog");
+        MessageCatalog.write(file, messages());
+
+        MessageCatalog.write(file, Collections.singletonMap("vote", Component.text("Vote!")));
+
+        final MessageCatalog catalog = MessageCatalog.open(file);
+        assertEquals(1, catalog.size());
+        assertEquals(Component.text("Vote!"), catalog.get("vote"));
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    void open_ThrowsIOException_WhenFileIsNotSnapshot() throws IOException {
+        final Path file = directory.resolve("messages.catalog");
+
+        Files.write(file, "not a catalog".getBytes());
+        assertThrows(IOException.class, () -> MessageCatalog.open(file));
+
+        Files.write(file, ByteBuffer.allocate(8)
+                .putInt(MessageCatalog.MAGIC)
+                .putInt(MessageCatalog.VERSION + 1)
+                .array());
+        assertThrows(IOException.class, () -> MessageCatalog.open(file));
+
+        MessageCatalog.write(file, messages());
+        final byte[] snapshot = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(snapshot, snapshot.length - 1));
+        assertThrows(IOException.class, () -> MessageCatalog.open(file));
+    }
+
+    @Test
+    void open_ThrowsIOException_WhenLengthsExceedFile() throws IOException {
+        final Path file = directory.resolve("messages.catalog");
+
+        Files.write(file, ByteBuffer.allocate(20)
+                .putInt(MessageCatalog.MAGIC)
+                .putInt(MessageCatalog.VERSION)
+                .putLong(0)
+                .putInt(Integer.MAX_VALUE)
+                .array());
+        assertThrows(IOException.class, () -> MessageCatalog.open(file));
+
+        Files.write(file, ByteBuffer.allocate(36)
+                .putInt(MessageCatalog.MAGIC)
+                .putInt(MessageCatalog.VERSION)
+                .putLong(0)
+                .putInt(1)
+                .putInt(Integer.MAX_VALUE)
+                .array());
+        assertThrows(IOException.class, () -> MessageCatalog.open(file));
+    }
+
+    @Test
+    void open_ReadsSnapshot_WhenFingerprintMatches() throws IOException {
+        final Path file = directory.resolve("messages.catalog");
+        MessageCatalog.write(file, messages(), 42);
+
+        final MessageCatalog catalog = MessageCatalog.open(file, 42);
+
+        assertEquals(42, catalog.getFingerprint());
+        assertEquals(messages().get("vote"), catalog.get("vote"));
+    }
+
+    @Test
+    void open_ThrowsIOException_WhenFingerprintDiffers() throws IOException {
+        final Path file = directory.resolve("messages.catalog");
+        MessageCatalog.write(file, messages(), 42);
+
+        assertThrows(IOException.class, () -> MessageCatalog.open(file, 43));
+    }
+
+    @Test
+    void write_StoresFingerprintOfMessages() throws IOException {
+        final Path file = directory.resolve("messages.catalog");
+        MessageCatalog.write(file, messages());
+        final Map<String, Component> changed = messages();
+        changed.put("vote", Component.text("Vote!"));
+
+        assertEquals(MessageCatalog.fingerprint(messages()),
+                MessageCatalog.open(file).getFingerprint());
+        assertNotEquals(MessageCatalog.fingerprint(messages()),
+                MessageCatalog.fingerprint(changed));
+        assertThrows(IOException.class,
+                () -> MessageCatalog.open(file, MessageCatalog.fingerprint(changed)));
+    }
+
+    @Test
+    void methods_ThrowNullPointerException_WhenArgumentsAreNull() throws IOException {
+        final Path file = directory.resolve("messages.catalog");
+        MessageCatalog.write(file, messages());
+
+        assertThrows(NullPointerException.class, () -> MessageCatalog.write(null, messages()));
+        assertThrows(NullPointerException.class, () -> MessageCatalog.write(file, null));
+        assertThrows(NullPointerException.class,
+                () -> MessageCatalog.write(file, Collections.singletonMap("key", null)));
+        assertThrows(NullPointerException.class, () -> MessageCatalog.write(null, messages(), 0));
+        assertThrows(NullPointerException.class, () -> MessageCatalog.write(file, null, 0));
+        assertThrows(NullPointerException.class, () -> MessageCatalog.fingerprint(null));
+        assertThrows(NullPointerException.class, () -> MessageCatalog.open(null));
+        assertThrows(NullPointerException.class, () -> MessageCatalog.open(null, 0));
+        assertThrows(NullPointerException.class, () -> MessageCatalog.open(file).get(null));
+    }
+}
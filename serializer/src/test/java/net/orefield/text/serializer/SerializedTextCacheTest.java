@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2022 OreField
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.orefield.text.serializer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.serializer.gson.GsonComponentSerializer;
+import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
+import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
+import net.orefield.text.Category;
+import net.orefield.text.adventure.AdventureTexts;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+class SerializedTextCacheTest {
+
+    private final SerializedTextCache cache = new SerializedTextCache();
+
+    @Test
+    void orefield_ReturnsSerializedOrefield() {
+        final SerializedComponent orefield = cache.orefield();
+
+        assertSerialized(AdventureTexts.orefield(), orefield);
+        assertEquals("OREFIELD", orefield.plain());
+        assertSame(orefield, cache.orefield());
+    }
+
+    @Test
+    void title_ReturnsCachedSerializedTitle() {
+        final SerializedComponent title = cache.title("SERVER");
+        final SerializedComponent categoryTitle = cache.title(Category.CHAT);
+
+        assertSerialized(AdventureTexts.title("SERVER"), title);
+        assertSerialized(AdventureTexts.title(Category.CHAT), categoryTitle);
+        assertSame(title, cache.title("SERVER"));
+        assertSame(categoryTitle, cache.title(Category.CHAT));
+    }
+
+    @Test
+    void error_ReturnsCachedSerializedError() {
+        final Component message = Component.text("Player not found.");
+
+        final SerializedComponent error = cache.error(message);
+
+        assertSerialized(AdventureTexts.error(message), error);
+        assertEquals("Error: Player not found.", error.plain());
+        assertSame(error, cache.error(Component.text("Player not found.")));
+    }
+
+    @Test
+    void warning_ReturnsCachedSerializedWarning() {
+        final Component message = Component.text("Unable to teleport 2/10 players.");
+
+        final SerializedComponent warning = cache.warning(message);
+
+        assertSerialized(AdventureTexts.warning(message), warning);
+        assertSame(warning, cache.warning(message));
+    }
+
+    @Test
+    void component_ReturnsCachedSerializedComponent() {
+        final Component component = AdventureTexts.callToAction(Component.text("CLICK HERE"));
+
+        final SerializedComponent serialized = cache.component(component);
+
+        assertSerialized(component, serialized);
+        assertSame(serialized, cache.component(component));
+    }
+
+    @Test
+    void jsonBytes_ReturnsIndependentBuffers() {
+        final ByteBuffer first = cache.orefield().jsonBytes();
+        first.position(first.limit());
+
+        final ByteBuffer second = cache.orefield().jsonBytes();
+
+        assertEquals(0, second.position());
+        assertEquals(cache.orefield().json(), StandardCharsets.UTF_8.decode(second).toString());
+    }
+
+    private static void assertSerialized(final Component expected,
+            final SerializedComponent actual) {
+        assertEquals(expected, actual.component());
+        assertEquals(GsonComponentSerializer.gson().serialize(expected), actual.json());
+        assertEquals(LegacyComponentSerializer.legacySection().serialize(expected),
+                actual.legacy());
+        assertEquals(PlainTextComponentSerializer.plainText().serialize(expected),
+                actual.plain());
+    }
+}
@@ -28,7 +28,11 @@ dependencyResolutionManagement {
 
 sequenceOf(
     "adventure",
-    "api"
+    "api",
+    "benchmarks",
+    "broadcast",
+    "plain",
+    "serializer"
 ).forEach {
     include(it)
     project(":$it").name = "${rootProject.name}-$it"